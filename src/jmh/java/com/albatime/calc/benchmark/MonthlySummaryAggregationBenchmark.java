@@ -0,0 +1,80 @@
+package com.albatime.calc.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.albatime.calc.dto.MonthlySummaryDto;
+import com.albatime.calc.entity.WorkRecord;
+
+// 월별 통계 Java 집계 - 기존 getMonthlySummary의 4회 stream 순회 vs 월별 통계 증감 계산과 같은 1회 순회
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MonthlySummaryAggregationBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int records;
+
+    private List<WorkRecord> workRecords;
+
+    @Setup
+    public void setUp() {
+        workRecords = WorkRecordFixtures.create(records);
+    }
+
+    @Benchmark
+    public MonthlySummaryDto streamAggregation() {
+        int workDays = workRecords.size();
+        double totalWorkHours = workRecords.stream()
+                .mapToDouble(WorkRecord::calculateWorkHours)
+                .sum();
+        int totalWage = workRecords.stream()
+                .mapToInt(WorkRecord::calculateTotalWage)
+                .sum();
+        int averageHourlyWage = workRecords.isEmpty() ? 0 :
+                (int) workRecords.stream()
+                        .mapToInt(WorkRecord::getHourlyWage)
+                        .average()
+                        .orElse(0);
+
+        return MonthlySummaryDto.builder()
+                .year(2024)
+                .month(1)
+                .workDays(workDays)
+                .totalWorkHours(totalWorkHours)
+                .totalWage(totalWage)
+                .averageHourlyWage(averageHourlyWage)
+                .build();
+    }
+
+    @Benchmark
+    public MonthlySummaryDto singlePassAggregation() {
+        long totalMinutes = 0;
+        long totalWage = 0;
+        long hourlyWageSum = 0;
+        for (WorkRecord workRecord : workRecords) {
+            totalMinutes += workRecord.calculateWorkMinutes();
+            totalWage += workRecord.calculateTotalWage();
+            hourlyWageSum += workRecord.getHourlyWage();
+        }
+        long recordCount = workRecords.size();
+
+        return MonthlySummaryDto.builder()
+                .year(2024)
+                .month(1)
+                .workDays((int) recordCount)
+                .totalWorkHours(totalMinutes / 60.0)
+                .totalWage((int) totalWage)
+                .averageHourlyWage(recordCount == 0 ? 0 : (int) ((double) hourlyWageSum / recordCount))
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+package com.albatime.calc.benchmark;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.albatime.calc.payrule.CompiledPayRules;
+import com.albatime.calc.payrule.PayRuleSet;
+import com.albatime.calc.payrule.PayrollAccumulator;
+
+// 가산 수당 규칙 평가 (야간/연장/주휴수당 포함 급여 계산)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PayRuleEngineBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int shifts;
+
+    private final CompiledPayRules rules = PayRuleSet.builder().build().compile();
+
+    private long[] epochDays;
+    private int[] startMinutes;
+    private int[] endMinutes;
+    private int[] hourlyWages;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        long baseDay = LocalDate.of(2024, 1, 1).toEpochDay();
+        epochDays = new long[shifts];
+        startMinutes = new int[shifts];
+        endMinutes = new int[shifts];
+        hourlyWages = new int[shifts];
+        for (int i = 0; i < shifts; i++) {
+            // 날짜순, 하루 최대 두 건 - 일부는 자정을 넘기는 근무
+            epochDays[i] = baseDay + i / 2;
+            startMinutes[i] = random.nextInt(24) * 60;
+            endMinutes[i] = (startMinutes[i] + (4 + random.nextInt(7)) * 60) % (24 * 60);
+            hourlyWages[i] = 9_860 + random.nextInt(5_000);
+        }
+    }
+
+    @Benchmark
+    public long calculatePayroll() {
+        PayrollAccumulator payroll = rules.newPayroll();
+        for (int i = 0; i < shifts; i++) {
+            payroll.add(epochDays[i], startMinutes[i], endMinutes[i], hourlyWages[i]);
+        }
+        return payroll.getTotalPay();
+    }
+
+    @Benchmark
+    public long nightMinutes() {
+        long total = 0;
+        for (int i = 0; i < shifts; i++) {
+            total += rules.nightMinutes(startMinutes[i], endMinutes[i]);
+        }
+        return total;
+    }
+}
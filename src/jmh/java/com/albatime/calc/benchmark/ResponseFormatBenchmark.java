@@ -0,0 +1,73 @@
+package com.albatime.calc.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.albatime.calc.dto.WorkRecordColumnsDto;
+import com.albatime.calc.dto.WorkRecordResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+// 목록 응답 직렬화 - 기존 행 단위 JSON vs 열 단위 JSON vs 열 단위 CBOR
+// 응답 크기는 @Setup에서 형식별 바이트 수로 출력
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseFormatBenchmark {
+
+    // 한 달(하루 2건 안팎), 1년 분량 목록
+    @Param({"60", "730"})
+    private int records;
+
+    @Param({"", "workDate,startTime,endTime,totalWage"})
+    private String fields;
+
+    private List<WorkRecordResponseDto> rows;
+    private ObjectMapper jsonMapper;
+    private ObjectMapper cborMapper;
+
+    @Setup
+    public void setUp() throws Exception {
+        rows = WorkRecordFixtures.create(records).stream()
+                .map(WorkRecordResponseDto::from)
+                .collect(Collectors.toList());
+        // 애플리케이션 ObjectMapper와 같은 날짜 설정 (ISO 문자열)
+        jsonMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        cborMapper = new ObjectMapper(new CBORFactory())
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        System.out.printf("%n[response-format] %d건, fields=%s - 행 JSON: %dB, 열 JSON: %dB, 열 CBOR: %dB%n",
+                records, fields.isEmpty() ? "(기본)" : fields,
+                rowJson().length, columnarJson().length, columnarCbor().length);
+    }
+
+    @Benchmark
+    public byte[] rowJson() throws Exception {
+        return jsonMapper.writeValueAsBytes(rows);
+    }
+
+    @Benchmark
+    public byte[] columnarJson() throws Exception {
+        return jsonMapper.writeValueAsBytes(WorkRecordColumnsDto.of(rows, fields));
+    }
+
+    @Benchmark
+    public byte[] columnarCbor() throws Exception {
+        return cborMapper.writeValueAsBytes(WorkRecordColumnsDto.of(rows, fields));
+    }
+}
@@ -0,0 +1,59 @@
+package com.albatime.calc.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.albatime.calc.entity.WorkRecord;
+
+// WorkRecord 근무 시간/급여 계산
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WorkRecordCalculationBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int records;
+
+    private List<WorkRecord> workRecords;
+
+    @Setup
+    public void setUp() {
+        workRecords = WorkRecordFixtures.create(records);
+    }
+
+    @Benchmark
+    public long calculateWorkMinutes() {
+        long total = 0;
+        for (WorkRecord workRecord : workRecords) {
+            total += workRecord.calculateWorkMinutes();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double calculateWorkHours() {
+        double total = 0;
+        for (WorkRecord workRecord : workRecords) {
+            total += workRecord.calculateWorkHours();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long calculateTotalWage() {
+        long total = 0;
+        for (WorkRecord workRecord : workRecords) {
+            total += workRecord.calculateTotalWage();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,45 @@
+package com.albatime.calc.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.albatime.calc.entity.WorkRecord;
+
+// 벤치마크용 근무 기록 데이터 - 시드 고정으로 실행마다 같은 데이터
+final class WorkRecordFixtures {
+
+    private static final String[] MEMOS = {null, "오픈", "마감", "재고 정리", "대타 근무"};
+
+    private WorkRecordFixtures() {
+    }
+
+    static List<WorkRecord> create(int count) {
+        SplittableRandom random = new SplittableRandom(42L);
+        LocalDate firstDay = LocalDate.of(2024, 1, 1);
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+        List<WorkRecord> workRecords = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // 06:00~14:00 사이 5분 단위 출근, 2~10시간 근무
+            LocalTime startTime = LocalTime.of(6, 0).plusMinutes(5L * random.nextInt(97));
+            LocalTime endTime = startTime.plusMinutes(120 + 5L * random.nextInt(97));
+            WorkRecord workRecord = WorkRecord.builder()
+                    .id((long) i + 1)
+                    .workDate(firstDay.plusDays(random.nextInt(366)))
+                    .startTime(startTime)
+                    .endTime(endTime)
+                    .hourlyWage(9_860 + 10 * random.nextInt(500))
+                    .memo(MEMOS[random.nextInt(MEMOS.length)])
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build();
+            workRecord.applyDerivedColumns();
+            workRecords.add(workRecord);
+        }
+        return workRecords;
+    }
+}
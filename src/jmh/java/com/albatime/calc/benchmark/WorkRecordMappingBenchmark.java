@@ -0,0 +1,41 @@
+package com.albatime.calc.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.albatime.calc.dto.WorkRecordResponseDto;
+import com.albatime.calc.entity.WorkRecord;
+
+// 엔티티 -> 응답 DTO 변환 (목록 API 경로와 같은 stream/collect)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WorkRecordMappingBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int records;
+
+    private List<WorkRecord> workRecords;
+
+    @Setup
+    public void setUp() {
+        workRecords = WorkRecordFixtures.create(records);
+    }
+
+    @Benchmark
+    public List<WorkRecordResponseDto> mapToResponseDtos() {
+        return workRecords.stream()
+                .map(WorkRecordResponseDto::from)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,49 @@
+package com.albatime.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+// 요청 종류별 지연 히스토그램 (마이크로초, 유효 숫자 3자리) + 실패/누락 건수
+// 지연은 실제 전송 시각이 아니라 예정 시각부터 재므로 서버가 밀려 전송이 늦어진 시간도 포함 (coordinated omission 보정)
+class LatencyRecorder {
+
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> dropped = new EnumMap<>(Operation.class);
+
+    LatencyRecorder() {
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(3));
+            errors.put(operation, new LongAdder());
+            dropped.put(operation, new LongAdder());
+        }
+    }
+
+    void record(Operation operation, long intendedStartNanos, long endNanos, boolean success) {
+        histograms.get(operation).recordValue(Math.max(1, (endNanos - intendedStartNanos) / 1_000));
+        if (!success) {
+            errors.get(operation).increment();
+        }
+    }
+
+    // 동시 요청 상한에 걸려 보내지 못한 요청
+    void drop(Operation operation) {
+        dropped.get(operation).increment();
+    }
+
+    Histogram histogram(Operation operation) {
+        return histograms.get(operation);
+    }
+
+    long errors(Operation operation) {
+        return errors.get(operation).sum();
+    }
+
+    long dropped(Operation operation) {
+        return dropped.get(operation).sum();
+    }
+}
@@ -0,0 +1,72 @@
+package com.albatime.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.convert.DurationStyle;
+
+// 부하 테스트 설정 - gradle loadTest -Ploadtest.rate=300 처럼 시스템 속성으로 덮어씀
+// loadtest.app.* 속성은 앞부분을 떼고 앱 설정으로 전달 (예: -Ploadtest.app.spring.threads.virtual.enabled=true)
+record LoadTestConfig(
+        int users,  // 시드 사용자 수
+        int records,  // 시드 근무 기록 수 (사용자들에게 고르게 배분)
+        int months,  // 시드 데이터 기간 (이번 달까지 최근 N개월)
+        double rate,  // 초당 요청 수 (고정 도착률)
+        Duration warmup,  // 측정 전 예열 시간
+        Duration duration,  // 측정 시간
+        int maxInFlight,  // 동시에 처리 중인 요청 상한 - 넘으면 요청을 보내지 않고 dropped로 집계
+        Map<Operation, Integer> mix,  // 요청 종류별 비중
+        Path report,  // JSON 보고서 경로
+        Path baseline,  // 비교할 이전 보고서 (없으면 비교 안 함)
+        double maxP99Regression,  // 기준 대비 p99 허용 배수 - 넘으면 실패 종료
+        String commit,
+        Map<String, String> appProperties) {
+
+    private static final String APP_PREFIX = "loadtest.app.";
+
+    static LoadTestConfig fromSystemProperties() {
+        Map<String, String> appProperties = new LinkedHashMap<>();
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith(APP_PREFIX))
+                .sorted()
+                .forEach(name -> appProperties.put(name.substring(APP_PREFIX.length()), System.getProperty(name)));
+
+        String baseline = System.getProperty("loadtest.baseline");
+        return new LoadTestConfig(
+                Integer.getInteger("loadtest.users", 50),
+                Integer.getInteger("loadtest.records", 100_000),
+                Integer.getInteger("loadtest.months", 12),
+                Double.parseDouble(System.getProperty("loadtest.rate", "200")),
+                DurationStyle.detectAndParse(System.getProperty("loadtest.warmup", "15s")),
+                DurationStyle.detectAndParse(System.getProperty("loadtest.duration", "60s")),
+                Integer.getInteger("loadtest.max-in-flight", 2_000),
+                parseMix(System.getProperty("loadtest.mix")),
+                Path.of(System.getProperty("loadtest.report", "build/reports/load-test/report.json")),
+                baseline == null || baseline.isBlank() ? null : Path.of(baseline),
+                Double.parseDouble(System.getProperty("loadtest.max-p99-regression", "1.5")),
+                System.getProperty("loadtest.commit", "unknown"),
+                appProperties);
+    }
+
+    // "MONTHLY_LIST:30,CREATE:20" 형식 - 적지 않은 종류는 기본 비중 유지, 0이면 제외
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            weights.put(operation, operation.getDefaultWeight());
+        }
+        if (mix == null || mix.isBlank()) {
+            return weights;
+        }
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("loadtest.mix 형식이 올바르지 않습니다: " + entry);
+            }
+            weights.put(Operation.valueOf(pair[0].trim()), Integer.parseInt(pair[1].trim()));
+        }
+        return weights;
+    }
+}
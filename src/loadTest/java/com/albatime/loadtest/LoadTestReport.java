@@ -0,0 +1,122 @@
+package com.albatime.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+// 부하 테스트 결과 (JSON) - 커밋별로 저장해 두고 loadtest.baseline으로 이전 결과와 비교
+record LoadTestReport(
+        String commit,
+        String timestamp,
+        Map<String, Object> config,
+        double durationSeconds,
+        Stats total,
+        Map<String, Stats> operations) {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    // 지연 시간 단위는 ms, throughput은 측정 구간의 초당 완료 요청 수
+    record Stats(long requests, long errors, long dropped, double throughput,
+                 double p50Ms, double p90Ms, double p99Ms, double p999Ms, double maxMs, double meanMs) {
+
+        static Stats of(Histogram histogram, long errors, long dropped, double durationSeconds) {
+            long requests = histogram.getTotalCount();
+            return new Stats(requests, errors, dropped,
+                    round(requests / durationSeconds),
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()),
+                    requests == 0 ? 0 : round(histogram.getMean() / 1_000.0));
+        }
+    }
+
+    // 기준 대비 p99가 허용 배수를 넘은 요청 종류
+    record Regression(String operation, double baselineP99Ms, double currentP99Ms) {
+
+        double ratio() {
+            return currentP99Ms / baselineP99Ms;
+        }
+    }
+
+    static LoadTestReport of(LoadTestConfig config, LatencyRecorder recorder, double durationSeconds) {
+        Histogram all = new Histogram(3);
+        long errors = 0;
+        long dropped = 0;
+        Map<String, Stats> operations = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            if (config.mix().get(operation) <= 0) {
+                continue;
+            }
+            Histogram histogram = recorder.histogram(operation).copy();
+            all.add(histogram);
+            errors += recorder.errors(operation);
+            dropped += recorder.dropped(operation);
+            operations.put(operation.name(),
+                    Stats.of(histogram, recorder.errors(operation), recorder.dropped(operation), durationSeconds));
+        }
+
+        Map<String, Object> configValues = new LinkedHashMap<>();
+        configValues.put("users", config.users());
+        configValues.put("records", config.records());
+        configValues.put("months", config.months());
+        configValues.put("rate", config.rate());
+        configValues.put("warmup", config.warmup().toString());
+        configValues.put("duration", config.duration().toString());
+        configValues.put("maxInFlight", config.maxInFlight());
+        configValues.put("mix", config.mix());
+        configValues.put("app", config.appProperties());
+
+        return new LoadTestReport(config.commit(), Instant.now().toString(), configValues, durationSeconds,
+                Stats.of(all, errors, dropped, durationSeconds), operations);
+    }
+
+    static LoadTestReport read(Path path) throws IOException {
+        return OBJECT_MAPPER.readValue(path.toFile(), LoadTestReport.class);
+    }
+
+    void write(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        OBJECT_MAPPER.writeValue(path.toFile(), this);
+    }
+
+    // 기준 p99가 1ms 미만인 종류는 측정 오차가 커서 비교하지 않음
+    List<Regression> compareP99(LoadTestReport baseline, double maxRatio) {
+        List<Regression> regressions = new ArrayList<>();
+        operations.forEach((name, current) -> {
+            Stats before = baseline.operations().get(name);
+            if (before == null || before.p99Ms() < 1.0) {
+                return;
+            }
+            if (current.p99Ms() > before.p99Ms() * maxRatio) {
+                regressions.add(new Regression(name, before.p99Ms(), current.p99Ms()));
+            }
+        });
+        return regressions;
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1_000) / 1_000.0;
+    }
+}
@@ -0,0 +1,253 @@
+package com.albatime.loadtest;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.albatime.AlbatimeApplication;
+import com.albatime.auth.entity.AppUser;
+import com.albatime.auth.repository.AppUserRepository;
+import com.albatime.calc.entity.WorkRecord;
+import com.albatime.calc.repository.WorkRecordBatchRepository;
+import com.albatime.calc.service.MonthlySummaryRollupService;
+
+import ch.vorburger.mariaDB4j.DB;
+import ch.vorburger.mariaDB4j.DBConfigurationBuilder;
+
+/**
+ * 종단 간 부하 테스트 - 내장 MariaDB에 데이터를 채우고 앱을 띄운 뒤, 조회/쓰기를 섞은 요청을 고정 도착률로 보낸다.
+ * 요청 종류별 p50/p99/p999 지연과 처리량을 JSON으로 남기고, 기준 결과가 있으면 p99를 비교해 회귀 시 실패(종료 코드 1)한다.
+ * 실행: gradle loadTest -Ploadtest.rate=300 -Ploadtest.duration=2m -Ploadtest.baseline=load-test-baseline.json
+ */
+public class LoadTestRunner {
+
+    private static final String DATABASE = "albatime";
+    private static final long SEED = 20_250_101L;
+    private static final int INSERT_CHUNK = 10_000;
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        int exitCode;
+        DB db = startDatabase();
+        try (ConfigurableApplicationContext context = startApplication(db.getConfiguration().getPort(), config)) {
+            exitCode = run(config, context);
+        } finally {
+            db.stop();
+        }
+        System.exit(exitCode);
+    }
+
+    // MySQL 문법의 네이티브 쿼리가 있어 H2 대신 MariaDB를 내장으로 띄움 - 빈 포트 사용, 종료 시 데이터 디렉터리 삭제
+    private static DB startDatabase() throws Exception {
+        DBConfigurationBuilder dbConfig = DBConfigurationBuilder.newBuilder();
+        dbConfig.setPort(0);
+        dbConfig.addArg("--character-set-server=utf8mb4");
+        DB db = DB.newEmbeddedDB(dbConfig.build());
+        db.start();
+        db.createDB(DATABASE);
+        return db;
+    }
+
+    // 명령행 인자로 넘겨 application.yml보다 우선 적용 - loadtest.app.* 값이 마지막에 덮어씀
+    private static ConfigurableApplicationContext startApplication(int dbPort, LoadTestConfig config) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.url", "jdbc:mysql://localhost:" + dbPort + "/" + DATABASE
+                + "?serverTimezone=Asia/Seoul&characterEncoding=UTF-8&useCursorFetch=true&rewriteBatchedStatements=true");
+        properties.put("spring.datasource.username", "root");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.MariaDBDialect");
+        // 부하용 사용자는 한 IP에서 반복 로그인하므로 로그인 요청 한도를 풀어 둠
+        properties.put("albatime.auth.login.rate-limit.per-username", "1000000");
+        properties.put("albatime.auth.login.rate-limit.per-ip", "1000000");
+        properties.put("logging.level.com.albatime", "WARN");
+        properties.putAll(config.appProperties());
+
+        String[] args = properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(AlbatimeApplication.class).run(args);
+    }
+
+    private static int run(LoadTestConfig config, ConfigurableApplicationContext context) throws Exception {
+        YearMonth lastMonth = YearMonth.now();
+        YearMonth firstMonth = lastMonth.minusMonths(config.months() - 1L);
+
+        long seedStart = System.nanoTime();
+        List<Workload.LoadUser> users = seed(config, context, firstMonth);
+        System.out.printf("[load-test] 시드 완료 - 사용자 %d명, 근무 기록 %d건 (%.1fs)%n",
+                config.users(), config.records(), (System.nanoTime() - seedStart) / 1_000_000_000.0);
+
+        int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        Workload workload = new Workload(httpClient, "http://localhost:" + port, firstMonth, lastMonth);
+        for (Workload.LoadUser user : users) {
+            workload.login(user);
+        }
+
+        LatencyRecorder recorder = drive(config, workload, users);
+        LoadTestReport report = LoadTestReport.of(config, recorder, config.duration().toNanos() / 1_000_000_000.0);
+        report.write(config.report());
+        print(report);
+        System.out.println("[load-test] 보고서: " + config.report().toAbsolutePath());
+
+        if (config.baseline() == null) {
+            return 0;
+        }
+        LoadTestReport baseline = LoadTestReport.read(config.baseline());
+        List<LoadTestReport.Regression> regressions = report.compareP99(baseline, config.maxP99Regression());
+        System.out.printf("[load-test] 기준 결과 비교 (%s) - p99 허용 배수 %.2f%n", baseline.commit(), config.maxP99Regression());
+        regressions.forEach(regression -> System.out.printf("  %-16s p99 %.3fms -> %.3fms (x%.2f)%n",
+                regression.operation(), regression.baselineP99Ms(), regression.currentP99Ms(), regression.ratio()));
+        return regressions.isEmpty() ? 0 : 1;
+    }
+
+    // 사용자 생성 후 근무 기록을 JDBC 배치로 넣고 월별 통계를 다시 계산 - 같은 설정이면 항상 같은 데이터
+    private static List<Workload.LoadUser> seed(LoadTestConfig config, ConfigurableApplicationContext context,
+                                                YearMonth firstMonth) {
+        AppUserRepository appUserRepository = context.getBean(AppUserRepository.class);
+        WorkRecordBatchRepository workRecordBatchRepository = context.getBean(WorkRecordBatchRepository.class);
+        String passwordHash = context.getBean(PasswordEncoder.class).encode(Workload.PASSWORD);
+
+        List<AppUser> appUsers = new ArrayList<>(config.users());
+        for (int i = 0; i < config.users(); i++) {
+            appUsers.add(AppUser.builder()
+                    .username("load-user-" + i)
+                    .password(passwordHash)
+                    .roles("USER")
+                    .build());
+        }
+        appUsers = appUserRepository.saveAll(appUsers);
+
+        Random random = new Random(SEED);
+        LocalDateTime now = LocalDateTime.now();
+        List<WorkRecord> chunk = new ArrayList<>(INSERT_CHUNK);
+        for (int i = 0; i < config.records(); i++) {
+            YearMonth month = firstMonth.plusMonths(random.nextInt(config.months()));
+            int startHour = 6 + random.nextInt(10);
+            WorkRecord workRecord = WorkRecord.builder()
+                    .userId(appUsers.get(i % appUsers.size()).getId())
+                    .workDate(month.atDay(1 + random.nextInt(month.lengthOfMonth())))
+                    .startTime(LocalTime.of(startHour, 0))
+                    .endTime(LocalTime.of(startHour + 3 + random.nextInt(6), 30))
+                    .hourlyWage(10030 + random.nextInt(20) * 100)
+                    .memo("load-seed")
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build();
+            workRecord.applyDerivedColumns();
+            chunk.add(workRecord);
+            if (chunk.size() == INSERT_CHUNK) {
+                workRecordBatchRepository.insertAll(chunk);
+                chunk.clear();
+            }
+        }
+        workRecordBatchRepository.insertAll(chunk);
+        context.getBean(MonthlySummaryRollupService.class).rebuild();
+
+        List<Workload.LoadUser> users = new ArrayList<>(appUsers.size());
+        appUsers.forEach(appUser -> users.add(new Workload.LoadUser(appUser.getUsername())));
+        return users;
+    }
+
+    // 열린 루프 - 응답을 기다리지 않고 예정 시각마다 요청을 가상 스레드로 보냄
+    // 예열 구간 요청은 기록하지 않고, 동시 요청 상한에 걸리면 보내지 않고 dropped로 집계
+    private static LatencyRecorder drive(LoadTestConfig config, Workload workload, List<Workload.LoadUser> users) {
+        Operation[] operations = weightedOperations(config.mix());
+        LatencyRecorder recorder = new LatencyRecorder();
+        Semaphore inFlight = new Semaphore(config.maxInFlight());
+        Random random = new Random(SEED);
+
+        long intervalNanos = Math.max(1, (long) (1_000_000_000L / config.rate()));
+        long start = System.nanoTime();
+        long measureStart = start + config.warmup().toNanos();
+        long end = measureStart + config.duration().toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long intendedStart = start + i * intervalNanos;
+                if (intendedStart >= end) {
+                    break;
+                }
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                boolean measured = intendedStart >= measureStart;
+                Operation operation = operations[random.nextInt(operations.length)];
+                Workload.LoadUser user = users.get(random.nextInt(users.size()));
+                if (!inFlight.tryAcquire()) {
+                    if (measured) {
+                        recorder.drop(operation);
+                    }
+                    continue;
+                }
+                executor.submit(() -> {
+                    Operation executed = operation;
+                    boolean success = false;
+                    try {
+                        Workload.Result result = workload.execute(operation, user);
+                        executed = result.operation();
+                        success = result.success();
+                    } catch (Exception e) {
+                        // 연결 실패/시간 초과는 실패로 집계
+                    } finally {
+                        if (measured) {
+                            recorder.record(executed, intendedStart, System.nanoTime(), success);
+                        }
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        return recorder;
+    }
+
+    // 비중만큼 반복한 배열 - 균등 추출로 비중대로 뽑힘
+    private static Operation[] weightedOperations(Map<Operation, Integer> mix) {
+        List<Operation> operations = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                operations.add(operation);
+            }
+        });
+        if (operations.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix에 비중이 0보다 큰 요청 종류가 없습니다.");
+        }
+        return operations.toArray(Operation[]::new);
+    }
+
+    private static void print(LoadTestReport report) {
+        System.out.printf("[load-test] %s - %.0fs 측정%n", report.commit(), report.durationSeconds());
+        System.out.printf("  %-16s %9s %7s %7s %9s %9s %9s %9s %9s%n",
+                "operation", "requests", "errors", "dropped", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        report.operations().forEach((name, stats) -> printStats(name, stats));
+        printStats("TOTAL", report.total());
+    }
+
+    private static void printStats(String name, LoadTestReport.Stats stats) {
+        System.out.printf("  %-16s %9d %7d %7d %9.1f %9.3f %9.3f %9.3f %9.3f%n",
+                name, stats.requests(), stats.errors(), stats.dropped(), stats.throughput(),
+                stats.p50Ms(), stats.p99Ms(), stats.p999Ms(), stats.maxMs());
+    }
+}
@@ -0,0 +1,33 @@
+package com.albatime.loadtest;
+
+// 부하 테스트 요청 종류와 기본 비중 - 조회 약 75%, 쓰기 약 25%
+// PATCH/DELETE는 실행 중에 만든 기록을 대상으로 하고, 대상이 없으면 CREATE로 대신함
+enum Operation {
+
+    MONTHLY_LIST(25, 200),  // GET /api/work-records/monthly
+    MONTHLY_SUMMARY(15, 200),  // GET /api/work-records/monthly/summary
+    DAILY(10, 200),  // GET /api/work-records/daily
+    RANGE(10, 200),  // GET /api/work-records/range
+    PAGE(10, 200),  // GET /api/work-records (커서 페이지)
+    AUTH_CHECK(5, 200),  // GET /api/auth/check
+    LOGIN(2, 200),  // POST /api/auth/login (BCrypt 검증 포함)
+    CREATE(12, 201),  // POST /api/work-records
+    PATCH(7, 200),  // PATCH /api/work-records/{id}
+    DELETE(4, 204);  // DELETE /api/work-records/{id}
+
+    private final int defaultWeight;
+    private final int expectedStatus;
+
+    Operation(int defaultWeight, int expectedStatus) {
+        this.defaultWeight = defaultWeight;
+        this.expectedStatus = expectedStatus;
+    }
+
+    int getDefaultWeight() {
+        return defaultWeight;
+    }
+
+    int getExpectedStatus() {
+        return expectedStatus;
+    }
+}
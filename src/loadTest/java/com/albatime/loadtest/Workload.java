@@ -0,0 +1,155 @@
+package com.albatime.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// 요청 종류별 HTTP 호출 - 사용자마다 Bearer 토큰과 실행 중에 만든 기록 ID를 들고 있음
+class Workload {
+
+    static final String PASSWORD = "load-test-password";
+    private static final String MEMO = "load-test";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final YearMonth firstMonth;
+    private final YearMonth lastMonth;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    Workload(HttpClient httpClient, String baseUrl, YearMonth firstMonth, YearMonth lastMonth) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+        this.firstMonth = firstMonth;
+        this.lastMonth = lastMonth;
+    }
+
+    // 부하용 사용자 - PATCH는 ID를 꺼냈다가 끝나면 돌려놓고, DELETE는 꺼낸 ID를 버림 (같은 기록을 동시에 수정/삭제하지 않음)
+    static final class LoadUser {
+
+        private final String username;
+        private final Queue<Long> createdIds = new ConcurrentLinkedQueue<>();
+        private volatile String token;
+
+        LoadUser(String username) {
+            this.username = username;
+        }
+    }
+
+    record Result(Operation operation, boolean success) {
+    }
+
+    // 로그인 후 토큰 저장 - 준비 단계용, 실패하면 예외
+    void login(LoadUser user) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(loginRequest(user));
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("로그인 실패: " + user.username + " (" + response.statusCode() + ")");
+        }
+        user.token = objectMapper.readTree(response.body()).path("token").asText();
+    }
+
+    Result execute(Operation operation, LoadUser user) throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        YearMonth month = randomMonth(random);
+        String monthQuery = "?year=" + month.getYear() + "&month=" + month.getMonthValue();
+        return switch (operation) {
+            case MONTHLY_LIST -> get(operation, user, "/api/work-records/monthly" + monthQuery);
+            case MONTHLY_SUMMARY -> get(operation, user, "/api/work-records/monthly/summary" + monthQuery);
+            case DAILY -> get(operation, user, "/api/work-records/daily?from=" + month.atDay(1) + "&to=" + month.atEndOfMonth() + "&fill=true");
+            case RANGE -> get(operation, user, "/api/work-records/range?startDate=" + month.atDay(1) + "&endDate=" + month.atEndOfMonth());
+            case PAGE -> get(operation, user, "/api/work-records?size=50");
+            case AUTH_CHECK -> get(operation, user, "/api/auth/check");
+            case LOGIN -> new Result(operation, send(loginRequest(user)).statusCode() == operation.getExpectedStatus());
+            case CREATE -> create(user, random);
+            case PATCH -> patch(user, random);
+            case DELETE -> delete(user, random);
+        };
+    }
+
+    private Result get(Operation operation, LoadUser user, String path) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(authorized(user, path).GET().build());
+        return new Result(operation, response.statusCode() == operation.getExpectedStatus());
+    }
+
+    // 이번 달 안의 날짜로 등록 - 최근 달 조회/통계가 쓰기와 겹치도록 함
+    private Result create(LoadUser user, ThreadLocalRandom random) throws IOException, InterruptedException {
+        LocalDate workDate = lastMonth.atDay(random.nextInt(1, lastMonth.lengthOfMonth() + 1));
+        int startHour = random.nextInt(8, 15);
+        String body = "{\"workDate\":\"" + workDate + "\","
+                + "\"startTime\":\"" + String.format("%02d:00", startHour) + "\","
+                + "\"endTime\":\"" + String.format("%02d:30", startHour + random.nextInt(3, 9)) + "\","
+                + "\"hourlyWage\":10030,\"memo\":\"" + MEMO + "\"}";
+        HttpResponse<String> response = send(authorized(user, "/api/work-records")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build());
+        if (response.statusCode() != Operation.CREATE.getExpectedStatus()) {
+            return new Result(Operation.CREATE, false);
+        }
+        JsonNode created = objectMapper.readTree(response.body());
+        user.createdIds.offer(created.path("id").asLong());
+        return new Result(Operation.CREATE, true);
+    }
+
+    private Result patch(LoadUser user, ThreadLocalRandom random) throws IOException, InterruptedException {
+        Long id = user.createdIds.poll();
+        if (id == null) {
+            return create(user, random);
+        }
+        try {
+            String body = "{\"hourlyWage\":" + random.nextInt(10030, 15001) + "}";
+            HttpResponse<String> response = send(authorized(user, "/api/work-records/" + id)
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString(body))
+                    .build());
+            return new Result(Operation.PATCH, response.statusCode() == Operation.PATCH.getExpectedStatus());
+        } finally {
+            user.createdIds.offer(id);
+        }
+    }
+
+    private Result delete(LoadUser user, ThreadLocalRandom random) throws IOException, InterruptedException {
+        Long id = user.createdIds.poll();
+        if (id == null) {
+            return create(user, random);
+        }
+        HttpResponse<String> response = send(authorized(user, "/api/work-records/" + id).DELETE().build());
+        return new Result(Operation.DELETE, response.statusCode() == Operation.DELETE.getExpectedStatus());
+    }
+
+    private YearMonth randomMonth(ThreadLocalRandom random) {
+        int months = (int) firstMonth.until(lastMonth, ChronoUnit.MONTHS) + 1;
+        return firstMonth.plusMonths(random.nextInt(months));
+    }
+
+    private HttpRequest loginRequest(LoadUser user) {
+        String body = "{\"username\":\"" + user.username + "\",\"password\":\"" + PASSWORD + "\"}";
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest.Builder authorized(LoadUser user, String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + user.token);
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -2,6 +2,13 @@ package com.albatime.auth.controller;
 
 import com.albatime.auth.dto.LoginRequestDto;
 import com.albatime.auth.dto.LoginResponseDto;
+import com.albatime.auth.dto.LoginStatsDto;
+import com.albatime.auth.service.LoginRejectedException;
+import com.albatime.auth.service.LoginService;
+import com.albatime.auth.token.AuthTokenProvider;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
@@ -14,8 +21,6 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
 import org.springframework.web.bind.annotation.*;
 
@@ -25,66 +30,69 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class AuthController {
 
-    private final UserDetailsService userDetailsService;
-    private final PasswordEncoder passwordEncoder;
+    private final LoginService loginService;
+    private final AuthTokenProvider authTokenProvider;
 
+    // 비밀번호 검증이 끝날 때 응답 (요청 스레드는 검증을 기다리지 않고 반환)
     @PostMapping("/login")
-    public ResponseEntity<LoginResponseDto> login(@RequestBody LoginRequestDto loginRequest, HttpServletRequest request) {
-        try {
-            log.info("로그인 시도: {}", loginRequest.getUsername());
-
-            // 사용자 정보 조회
-            UserDetails userDetails = userDetailsService.loadUserByUsername(loginRequest.getUsername());
-
-            // 비밀번호 검증
-            if (!passwordEncoder.matches(loginRequest.getPassword(), userDetails.getPassword())) {
-                log.warn("로그인 실패: 잘못된 비밀번호 - {}", loginRequest.getUsername());
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                    .body(LoginResponseDto.builder()
-                        .message("아이디 또는 비밀번호가 올바르지 않습니다.")
-                        .authenticated(false)
-                        .build());
-            }
-
-            // 인증 객체 생성
-            Authentication authentication = new UsernamePasswordAuthenticationToken(
-                userDetails,
-                null,
-                userDetails.getAuthorities()
-            );
-
-            // SecurityContext에 인증 정보 저장
-            SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
-            securityContext.setAuthentication(authentication);
-            SecurityContextHolder.setContext(securityContext);
-
-            // 세션에 SecurityContext 저장
-            HttpSession session = request.getSession(true);
-            session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, securityContext);
-
-            log.info("로그인 성공: {}", loginRequest.getUsername());
-
-            return ResponseEntity.ok(LoginResponseDto.builder()
-                .username(userDetails.getUsername())
-                .message("로그인 성공")
-                .authenticated(true)
-                .build());
+    public CompletableFuture<ResponseEntity<LoginResponseDto>> login(@RequestBody LoginRequestDto loginRequest, HttpServletRequest request) {
+        log.info("로그인 시도: {}", loginRequest.getUsername());
+
+        // 사용자 조회 + 비밀번호 검증 (전용 스레드 풀, 요청 한도 적용)
+        return loginService.authenticate(loginRequest.getUsername(), loginRequest.getPassword(), request.getRemoteAddr())
+            .thenApply(userDetails -> {
+                // 인증 객체 생성
+                Authentication authentication = new UsernamePasswordAuthenticationToken(
+                    userDetails,
+                    null,
+                    userDetails.getAuthorities()
+                );
+
+                // 세션에 SecurityContext 저장 - 검증 스레드에서 완료되므로 SecurityContextHolder에는 넣지 않음
+                SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+                securityContext.setAuthentication(authentication);
+                HttpSession session = request.getSession(true);
+                session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, securityContext);
+
+                // 세션 없이 쓸 수 있는 Bearer 토큰도 함께 발급
+                AuthTokenProvider.IssuedToken issuedToken = authTokenProvider.issue(userDetails);
+
+                log.info("로그인 성공: {}", loginRequest.getUsername());
+
+                return ResponseEntity.ok(LoginResponseDto.builder()
+                    .username(userDetails.getUsername())
+                    .message("로그인 성공")
+                    .authenticated(true)
+                    .token(issuedToken.token())
+                    .expiresAt(issuedToken.expiresAt())
+                    .build());
+            })
+            .exceptionally(e -> loginFailed(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e, loginRequest));
+    }
 
-        } catch (BadCredentialsException e) {
-            log.warn("로그인 실패: 사용자를 찾을 수 없음 - {}", loginRequest.getUsername());
+    private ResponseEntity<LoginResponseDto> loginFailed(Throwable e, LoginRequestDto loginRequest) {
+        if (e instanceof BadCredentialsException) {
+            log.warn("로그인 실패: 잘못된 아이디 또는 비밀번호 - {}", loginRequest.getUsername());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                 .body(LoginResponseDto.builder()
                     .message("아이디 또는 비밀번호가 올바르지 않습니다.")
                     .authenticated(false)
                     .build());
-        } catch (Exception e) {
-            log.error("로그인 중 오류 발생", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+        }
+        if (e instanceof LoginRejectedException rejected) {
+            log.warn("로그인 거절: {} - {}", rejected.getMessage(), loginRequest.getUsername());
+            return ResponseEntity.status(rejected.getStatus())
                 .body(LoginResponseDto.builder()
-                    .message("로그인 처리 중 오류가 발생했습니다.")
+                    .message(rejected.getMessage())
                     .authenticated(false)
                     .build());
         }
+        log.error("로그인 중 오류 발생", e);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+            .body(LoginResponseDto.builder()
+                .message("로그인 처리 중 오류가 발생했습니다.")
+                .authenticated(false)
+                .build());
     }
 
     @PostMapping("/logout")
@@ -130,4 +138,10 @@ public class AuthController {
             .authenticated(false)
             .build());
     }
+
+    // 로그인 검증 대기열/거절 통계
+    @GetMapping("/stats")
+    public ResponseEntity<LoginStatsDto> getLoginStats() {
+        return ResponseEntity.ok(loginService.getStats());
+    }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.albatime.auth.dto;
 
+import java.time.Instant;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,4 +15,6 @@ public class LoginResponseDto {
     private String username;
     private String message;
     private boolean authenticated;
+    private String token;  // Bearer 인증 토큰
+    private Instant expiresAt;  // 토큰 만료 시각
 }
\ No newline at end of file
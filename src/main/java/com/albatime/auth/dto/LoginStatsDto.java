@@ -0,0 +1,21 @@
+package com.albatime.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LoginStatsDto {
+    private Integer activeVerifications;  // 검증 중인 요청 수
+    private Integer queueDepth;  // 검증 대기 중인 요청 수
+    private Integer queueCapacity;  // 검증 대기열 크기
+    private Long completedVerifications;  // 완료된 검증 수
+    private Long rejectedByQueue;  // 대기열 포화로 거절한 수 (503)
+    private Long rejectedByTimeout;  // 검증 대기 시간 초과로 거절한 수 (503)
+    private Long rejectedByUsernameLimit;  // 사용자별 연속 실패 한도 초과 수 (429)
+    private Long rejectedByIpLimit;  // IP별 요청 한도 초과 수 (429)
+}
@@ -0,0 +1,50 @@
+package com.albatime.auth.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "app_users", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_app_users_username", columnNames = "username")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AppUser {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String username;  // 로그인 아이디
+
+    @Column(nullable = false, length = 100)
+    private String password;  // BCrypt 해시
+
+    @Column(nullable = false, length = 100)
+    private String roles;  // 권한 (쉼표 구분, 예: USER,ADMIN)
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;  // 생성 시간
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,31 @@
+package com.albatime.auth.service;
+
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+import com.albatime.auth.entity.AppUser;
+import com.albatime.auth.repository.AppUserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+// app_users 테이블 기반 사용자 조회 (Basic 인증/로그인 공용)
+@Service
+@RequiredArgsConstructor
+public class AppUserDetailsService implements UserDetailsService {
+
+    private final AppUserRepository appUserRepository;
+
+    @Override
+    public UserDetails loadUserByUsername(String username) {
+        AppUser appUser = appUserRepository.findByUsername(username)
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username));
+        return User.builder()
+                .username(appUser.getUsername())
+                .password(appUser.getPassword())
+                .roles(appUser.getRoles().split(","))
+                .build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.albatime.auth.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.albatime.auth.entity.AppUser;
+import com.albatime.auth.repository.AppUserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 기동 시 기본 사용자 생성 (없을 때만) - 소유자가 없던 기존 근무 기록은 이 사용자에게 배정
+// 비밀번호는 저장소에 두지 않음 - 환경 변수(ALBATIME_SEED_PASSWORD)로 주지 않으면 만들지 않음
+@Slf4j
+@Component
+@Order(-1)
+@RequiredArgsConstructor
+public class AppUserSeedRunner implements ApplicationRunner {
+
+    private final AppUserRepository appUserRepository;
+    private final PasswordEncoder passwordEncoder;
+
+    @Value("${albatime.auth.seed-user.username:mingulover}")
+    private String username;
+
+    @Value("${albatime.auth.seed-user.password:}")
+    private String password;
+
+    @Value("${albatime.auth.seed-user.roles:USER}")
+    private String roles;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (appUserRepository.findIdByUsername(username).isPresent()) {
+            return;
+        }
+        if (password == null || password.isBlank()) {
+            log.warn("기본 사용자 비밀번호(ALBATIME_SEED_PASSWORD)가 없어 기본 사용자를 만들지 않습니다 - {}", username);
+            return;
+        }
+        appUserRepository.save(AppUser.builder()
+                .username(username)
+                .password(passwordEncoder.encode(password))
+                .roles(roles)
+                .build());
+        log.info("기본 사용자 생성 완료 - {}", username);
+    }
+}
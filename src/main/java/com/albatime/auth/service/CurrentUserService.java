@@ -0,0 +1,10 @@
+package com.albatime.auth.service;
+
+public interface CurrentUserService {
+
+    // 인증된 사용자의 ID - 인증 정보가 없으면 AuthenticationCredentialsNotFoundException (401)
+    Long getCurrentUserId();
+
+    // 인증된 사용자의 로그인 아이디 - 인증 정보가 없으면 AuthenticationCredentialsNotFoundException (401)
+    String getCurrentUsername();
+}
@@ -0,0 +1,46 @@
+package com.albatime.auth.service;
+
+import java.time.Duration;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import com.albatime.auth.repository.AppUserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.RequiredArgsConstructor;
+
+// Basic/토큰 인증 모두 principal 이름이 로그인 아이디 - 요청마다 조회하지 않도록 아이디 -> ID 캐시
+@Service
+@RequiredArgsConstructor
+public class CurrentUserServiceImpl implements CurrentUserService {
+
+    private final AppUserRepository appUserRepository;
+    private final Cache<String, Long> userIds = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+
+    @Override
+    public Long getCurrentUserId() {
+        String currentUsername = getCurrentUsername();
+        Long userId = userIds.get(currentUsername, username -> appUserRepository.findIdByUsername(username).orElse(null));
+        if (userId == null) {
+            throw new AuthenticationCredentialsNotFoundException("사용자를 찾을 수 없습니다: " + currentUsername);
+        }
+        return userId;
+    }
+
+    @Override
+    public String getCurrentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
+            throw new AuthenticationCredentialsNotFoundException("로그인이 필요합니다.");
+        }
+        return authentication.getName();
+    }
+}
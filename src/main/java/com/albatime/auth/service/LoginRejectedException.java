@@ -0,0 +1,17 @@
+package com.albatime.auth.service;
+
+import org.springframework.http.HttpStatus;
+
+import lombok.Getter;
+
+// 비밀번호를 검증하지 않고 거절한 로그인 (요청 한도 초과 429, 검증 대기열 포화 503)
+@Getter
+public class LoginRejectedException extends RuntimeException {
+
+    private final HttpStatus status;
+
+    public LoginRejectedException(HttpStatus status, String message) {
+        super(message);
+        this.status = status;
+    }
+}
@@ -0,0 +1,15 @@
+package com.albatime.auth.service;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.albatime.auth.dto.LoginStatsDto;
+
+public interface LoginService {
+
+    // 검증이 끝나면 완료되는 future - 비밀번호가 틀리면 BadCredentialsException, 검증 전에 거절하면 LoginRejectedException으로 실패
+    CompletableFuture<UserDetails> authenticate(String username, String password, String clientIp);
+
+    LoginStatsDto getStats();
+}
@@ -0,0 +1,200 @@
+package com.albatime.auth.service;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.albatime.auth.dto.LoginStatsDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+// 로그인 비밀번호(BCrypt) 검증을 전용 스레드 풀에서 수행 - 요청 스레드는 검증을 기다리지 않고 반환 (비동기 응답)
+// BCrypt가 다른 API를 밀어내지 않도록 동시 검증 수/대기열을 제한하고 넘치면 바로 거절
+@Slf4j
+@Service
+public class LoginServiceImpl implements LoginService, DisposableBean {
+
+    private final UserDetailsService userDetailsService;
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor verifier;
+    private final int queueCapacity;
+    private final long verifyTimeoutMillis;
+
+    // 고정 구간 횟수 - 항목이 처음 만들어진 뒤 구간 길이가 지나면 만료되어 다시 0부터
+    // 사용자명은 실패만 세고 성공하면 초기화 (남이 정상 로그인 횟수를 소진시킬 수 없음), IP는 모든 시도를 셈
+    private final Cache<String, AtomicInteger> usernameFailures;
+    private final Cache<String, AtomicInteger> ipAttempts;
+    private final int maxFailuresPerUsername;
+    private final int maxAttemptsPerIp;
+
+    // 없는 사용자도 같은 비용으로 검증해 응답 시간으로 사용자 존재 여부가 드러나지 않게 함
+    private final String dummyPassword;
+
+    private final LongAdder rejectedByQueue = new LongAdder();
+    private final LongAdder rejectedByTimeout = new LongAdder();
+    private final LongAdder rejectedByUsernameLimit = new LongAdder();
+    private final LongAdder rejectedByIpLimit = new LongAdder();
+
+    private final Timer verifyTimer;
+
+    public LoginServiceImpl(UserDetailsService userDetailsService,
+                            PasswordEncoder passwordEncoder,
+                            MeterRegistry meterRegistry,
+                            @Value("${albatime.auth.login.threads:2}") int threads,
+                            @Value("${albatime.auth.login.queue-capacity:32}") int queueCapacity,
+                            @Value("${albatime.auth.login.verify-timeout:5s}") Duration verifyTimeout,
+                            @Value("${albatime.auth.login.rate-limit.window:1m}") Duration rateLimitWindow,
+                            @Value("${albatime.auth.login.rate-limit.per-username:10}") int maxFailuresPerUsername,
+                            @Value("${albatime.auth.login.rate-limit.per-ip:30}") int maxAttemptsPerIp) {
+        this.userDetailsService = userDetailsService;
+        this.passwordEncoder = passwordEncoder;
+        this.verifier = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("login-verifier-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.queueCapacity = queueCapacity;
+        this.verifyTimeoutMillis = verifyTimeout.toMillis();
+        this.usernameFailures = Caffeine.newBuilder().expireAfterWrite(rateLimitWindow).maximumSize(100_000).build();
+        this.ipAttempts = Caffeine.newBuilder().expireAfterWrite(rateLimitWindow).maximumSize(100_000).build();
+        this.maxFailuresPerUsername = maxFailuresPerUsername;
+        this.maxAttemptsPerIp = maxAttemptsPerIp;
+        this.dummyPassword = passwordEncoder.encode("dummy-password");
+
+        this.verifyTimer = Timer.builder("albatime.auth.password.verify")
+                .description("BCrypt 비밀번호 검증 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("albatime.auth.login.queue.depth", verifier, executor -> executor.getQueue().size())
+                .description("검증 대기 중인 로그인 수")
+                .register(meterRegistry);
+        Gauge.builder("albatime.auth.login.active", verifier, ThreadPoolExecutor::getActiveCount)
+                .description("검증 중인 로그인 수")
+                .register(meterRegistry);
+        registerRejections(meterRegistry, "queue", rejectedByQueue);
+        registerRejections(meterRegistry, "timeout", rejectedByTimeout);
+        registerRejections(meterRegistry, "username-limit", rejectedByUsernameLimit);
+        registerRejections(meterRegistry, "ip-limit", rejectedByIpLimit);
+    }
+
+    @Override
+    public CompletableFuture<UserDetails> authenticate(String username, String password, String clientIp) {
+        try {
+            if (exceeds(ipAttempts, clientIp, maxAttemptsPerIp)) {
+                rejectedByIpLimit.increment();
+                throw new LoginRejectedException(HttpStatus.TOO_MANY_REQUESTS, "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+            }
+            if (failures(username) >= maxFailuresPerUsername) {
+                rejectedByUsernameLimit.increment();
+                throw new LoginRejectedException(HttpStatus.TOO_MANY_REQUESTS, "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+            }
+
+            UserDetails userDetails = findUser(username);
+            String encodedPassword = userDetails != null ? userDetails.getPassword() : dummyPassword;
+
+            CompletableFuture<Boolean> verification;
+            try {
+                verification = CompletableFuture.supplyAsync(
+                        () -> verifyTimer.record(() -> passwordEncoder.matches(password, encodedPassword)), verifier);
+            } catch (RejectedExecutionException e) {
+                rejectedByQueue.increment();
+                throw new LoginRejectedException(HttpStatus.SERVICE_UNAVAILABLE, "로그인 요청이 많아 잠시 후 다시 시도해 주세요.");
+            }
+
+            // 시간 안에 시작하지 못한 검증은 future가 먼저 완료되므로 대기열에서 꺼내져도 BCrypt를 실행하지 않음
+            return verification.orTimeout(verifyTimeoutMillis, TimeUnit.MILLISECONDS)
+                    .handle((matches, e) -> {
+                        if (e instanceof TimeoutException) {
+                            rejectedByTimeout.increment();
+                            throw new LoginRejectedException(HttpStatus.SERVICE_UNAVAILABLE, "로그인 요청이 많아 잠시 후 다시 시도해 주세요.");
+                        }
+                        if (e != null) {
+                            throw new IllegalStateException("비밀번호 검증 중 오류가 발생했습니다.", e);
+                        }
+                        if (userDetails == null || !matches) {
+                            recordFailure(username);
+                            throw new BadCredentialsException("아이디 또는 비밀번호가 올바르지 않습니다.");
+                        }
+                        if (username != null) {
+                            usernameFailures.invalidate(username);
+                        }
+                        return userDetails;
+                    });
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public LoginStatsDto getStats() {
+        return LoginStatsDto.builder()
+                .activeVerifications(verifier.getActiveCount())
+                .queueDepth(verifier.getQueue().size())
+                .queueCapacity(queueCapacity)
+                .completedVerifications(verifier.getCompletedTaskCount())
+                .rejectedByQueue(rejectedByQueue.sum())
+                .rejectedByTimeout(rejectedByTimeout.sum())
+                .rejectedByUsernameLimit(rejectedByUsernameLimit.sum())
+                .rejectedByIpLimit(rejectedByIpLimit.sum())
+                .build();
+    }
+
+    @Override
+    public void destroy() {
+        verifier.shutdownNow();
+    }
+
+    private static void registerRejections(MeterRegistry meterRegistry, String reason, LongAdder rejected) {
+        FunctionCounter.builder("albatime.auth.login.rejected", rejected, LongAdder::sum)
+                .description("검증 전에 거절한 로그인 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private UserDetails findUser(String username) {
+        try {
+            return userDetailsService.loadUserByUsername(username);
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
+    }
+
+    private int failures(String username) {
+        AtomicInteger failures = username != null ? usernameFailures.getIfPresent(username) : null;
+        return failures != null ? failures.get() : 0;
+    }
+
+    private void recordFailure(String username) {
+        if (username != null) {
+            usernameFailures.get(username, k -> new AtomicInteger()).incrementAndGet();
+        }
+    }
+
+    private static boolean exceeds(Cache<String, AtomicInteger> attempts, String key, int limit) {
+        if (key == null) {
+            return false;
+        }
+        return attempts.get(key, k -> new AtomicInteger()).incrementAndGet() > limit;
+    }
+}
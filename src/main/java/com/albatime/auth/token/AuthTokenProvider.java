@@ -0,0 +1,106 @@
+package com.albatime.auth.token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 무상태 인증 토큰 발급/검증 - "base64url(사용자:만료초:권한).base64url(HMAC-SHA256)"
+// 요청마다 BCrypt 대신 HMAC 한 번으로 검증하고 세션 조회도 없음
+@Slf4j
+@Component
+public class AuthTokenProvider {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+
+    public AuthTokenProvider(@Value("${albatime.auth.token.secret:}") String secret,
+                             @Value("${albatime.auth.token.ttl:12h}") Duration ttl) {
+        byte[] keyBytes;
+        if (secret.isBlank()) {
+            // 비밀 키를 지정하지 않으면 기동할 때마다 새로 생성 - 재시작하면 기존 토큰은 무효
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+            log.warn("albatime.auth.token.secret 미설정 - 임시 키로 토큰을 서명합니다.");
+        } else {
+            keyBytes = Base64.getDecoder().decode(secret);
+        }
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.ttl = ttl;
+    }
+
+    public IssuedToken issue(UserDetails userDetails) {
+        Instant expiresAt = Instant.now().plus(ttl);
+        String authorities = String.join(",", AuthorityUtils.authorityListToSet(userDetails.getAuthorities()));
+        String payload = userDetails.getUsername() + ":" + expiresAt.getEpochSecond() + ":" + authorities;
+        String encodedPayload = ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        return new IssuedToken(encodedPayload + "." + ENCODER.encodeToString(sign(encodedPayload)), expiresAt);
+    }
+
+    // 서명/만료가 유효하면 토큰 정보, 아니면 null
+    public VerifiedToken verify(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot == token.length() - 1) {
+            return null;
+        }
+        String encodedPayload = token.substring(0, dot);
+        try {
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(signature, sign(encodedPayload))) {
+                return null;
+            }
+
+            // 사용자 이름에 ':'가 들어갈 수 있으므로 뒤에서부터 분리
+            String payload = new String(DECODER.decode(encodedPayload), StandardCharsets.UTF_8);
+            int authoritiesStart = payload.lastIndexOf(':');
+            int expiresStart = payload.lastIndexOf(':', authoritiesStart - 1);
+            if (expiresStart <= 0) {
+                return null;
+            }
+            long expiresAt = Long.parseLong(payload.substring(expiresStart + 1, authoritiesStart));
+            if (Instant.now().getEpochSecond() >= expiresAt) {
+                return null;
+            }
+            String authorities = payload.substring(authoritiesStart + 1);
+            return new VerifiedToken(payload.substring(0, expiresStart),
+                    AuthorityUtils.commaSeparatedStringToAuthorityList(authorities));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private byte[] sign(String encodedPayload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(encodedPayload.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("토큰 서명에 실패했습니다.", e);
+        }
+    }
+
+    public record IssuedToken(String token, Instant expiresAt) {
+    }
+
+    public record VerifiedToken(String username, List<GrantedAuthority> authorities) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.albatime.auth.token;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// "Authorization: Bearer <토큰>" 요청 인증 - 검증에 실패하면 인증 없이 넘겨 인가 단계에서 401 처리
+@Slf4j
+@RequiredArgsConstructor
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AuthTokenProvider authTokenProvider;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            AuthTokenProvider.VerifiedToken verified = authTokenProvider.verify(header.substring(BEARER_PREFIX.length()).trim());
+            if (verified != null) {
+                SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+                securityContext.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                        verified.username(), null, verified.authorities()));
+                SecurityContextHolder.setContext(securityContext);
+            } else {
+                log.debug("유효하지 않은 인증 토큰 - {}", request.getRequestURI());
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,50 @@
+package com.albatime.calc.controller;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.albatime.calc.dto.SummaryDriftDto;
+import com.albatime.calc.dto.SummaryGranularity;
+import com.albatime.calc.dto.SummaryReportDto;
+import com.albatime.calc.service.MonthlySummaryRollupService;
+import com.albatime.calc.service.WorkRecordService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/work-records/summary")
+@RequiredArgsConstructor
+public class MonthlySummaryController {
+
+    private final MonthlySummaryRollupService monthlySummaryRollupService;
+    private final WorkRecordService workRecordService;
+
+    // 여러 달(또는 주) 통계 + 전체 합계 - 예: ?from=2025-01&to=2025-12&granularity=month
+    @GetMapping
+    public ResponseEntity<SummaryReportDto> getSummaryReport(
+            @RequestParam("from") @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam("to") @DateTimeFormat(pattern = "yyyy-MM") YearMonth to,
+            @RequestParam(value = "granularity", defaultValue = "month") String granularity) {
+        return ResponseEntity.ok(workRecordService.getSummaryReport(from, to, SummaryGranularity.from(granularity)));
+    }
+
+    // 근무 기록 원본 기준으로 월별 통계 재계산
+    @PostMapping("/rebuild")
+    public ResponseEntity<Integer> rebuild() {
+        return ResponseEntity.ok(monthlySummaryRollupService.rebuild());
+    }
+
+    // 월별 통계와 원본 집계가 어긋난 달 조회
+    @GetMapping("/drift")
+    public ResponseEntity<List<SummaryDriftDto>> findDrift() {
+        return ResponseEntity.ok(monthlySummaryRollupService.findDrift());
+    }
+}
@@ -0,0 +1,45 @@
+package com.albatime.calc.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.albatime.calc.dto.CacheStatsDto;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/work-records/cache")
+@RequiredArgsConstructor
+public class WorkRecordCacheController {
+
+    private final CacheManager cacheManager;
+
+    // 캐시별 적중/미적중/제거 통계 - 캐시 크기 조정용
+    @GetMapping("/stats")
+    public ResponseEntity<List<CacheStatsDto>> getCacheStats() {
+        List<CacheStatsDto> stats = new ArrayList<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+                CacheStats cacheStats = nativeCache.stats();
+                stats.add(CacheStatsDto.builder()
+                        .name(name)
+                        .size(nativeCache.estimatedSize())
+                        .hitCount(cacheStats.hitCount())
+                        .missCount(cacheStats.missCount())
+                        .hitRate(cacheStats.hitRate())
+                        .evictionCount(cacheStats.evictionCount())
+                        .build());
+            }
+        }
+        return ResponseEntity.ok(stats);
+    }
+}
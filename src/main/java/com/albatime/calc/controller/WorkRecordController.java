@@ -1,13 +1,19 @@
 package com.albatime.calc.controller;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -15,12 +21,27 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.albatime.calc.dto.DailySummaryDto;
+import com.albatime.calc.dto.ExportFormat;
 import com.albatime.calc.dto.MonthlySummaryDto;
+import com.albatime.calc.dto.PayrollDto;
+import com.albatime.calc.dto.ResourceVersion;
+import com.albatime.calc.dto.Versioned;
+import com.albatime.calc.dto.WorkRecordColumnsDto;
+import com.albatime.calc.dto.WorkRecordDeleteResultDto;
+import com.albatime.calc.dto.WorkRecordField;
+import com.albatime.calc.dto.WorkRecordPageDto;
+import com.albatime.calc.dto.WorkRecordPatchDto;
 import com.albatime.calc.dto.WorkRecordRequestDto;
 import com.albatime.calc.dto.WorkRecordResponseDto;
+import com.albatime.calc.service.PayrollService;
+import com.albatime.calc.service.WorkRecordExportService;
 import com.albatime.calc.service.WorkRecordService;
+import com.albatime.calc.service.WorkRecordWriteBehindService;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -28,19 +49,48 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class WorkRecordController {
 
+    // 검증값(ETag/Last-Modified)이 있는 조회 - 브라우저가 저장하되 매번 If-None-Match로 재검증하도록 함
+    // /range, /monthly는 같은 URL에서 Accept로 JSON/열 단위/CBOR를 고르므로 응답마다 Vary: Accept
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final WorkRecordService workRecordService;
+    private final WorkRecordExportService workRecordExportService;
+    private final PayrollService payrollService;
+    private final ObjectProvider<WorkRecordWriteBehindService> writeBehindServiceProvider;
 
+    // 쓰기 지연 모드면 배치 커밋 후 비동기로 응답
     @PostMapping
-    public ResponseEntity<WorkRecordResponseDto> createWorkRecord(@RequestBody WorkRecordRequestDto requestDto) {
-        return ResponseEntity.status(HttpStatus.CREATED).body(workRecordService.createWorkRecord(requestDto));
+    public CompletableFuture<ResponseEntity<WorkRecordResponseDto>> createWorkRecord(@RequestBody WorkRecordRequestDto requestDto) {
+        WorkRecordWriteBehindService writeBehindService = writeBehindServiceProvider.getIfAvailable();
+        CompletableFuture<WorkRecordResponseDto> created = writeBehindService != null
+                ? writeBehindService.submit(requestDto)
+                : CompletableFuture.completedFuture(workRecordService.createWorkRecord(requestDto));
+        return created.thenApply(workRecord -> ResponseEntity.status(HttpStatus.CREATED).body(workRecord));
+    }
+
+    // 근무 기록 일괄 등록 - 전체 검증 후 한 트랜잭션에서 JDBC 배치로 저장
+    @PostMapping("/batch")
+    public ResponseEntity<List<WorkRecordResponseDto>> createWorkRecords(@RequestBody List<WorkRecordRequestDto> requestDtos) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(workRecordService.createWorkRecords(requestDtos));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<WorkRecordResponseDto> getWorkRecord(@PathVariable("id") Long id) {
-        return ResponseEntity.ok(workRecordService.getWorkRecord(id));
+    public ResponseEntity<WorkRecordResponseDto> getWorkRecord(@PathVariable("id") Long id, WebRequest webRequest) {
+        if (notModified(workRecordService.getWorkRecordVersion(id), webRequest)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+        }
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(workRecordService.getWorkRecord(id));
     }
 
     @GetMapping
+    public ResponseEntity<WorkRecordPageDto> getWorkRecordPage(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        return ResponseEntity.ok(workRecordService.getWorkRecordPage(cursor, size));
+    }
+
+    // 전체 목록 일괄 조회 - unpaged=true를 명시한 경우에만 허용
+    @GetMapping(params = "unpaged=true")
     public ResponseEntity<List<WorkRecordResponseDto>> getAllWorkRecords() {
         return ResponseEntity.ok(workRecordService.getAllWorkRecords());
     }
@@ -48,22 +98,94 @@ public class WorkRecordController {
     @GetMapping("/range")
     public ResponseEntity<List<WorkRecordResponseDto>> getWorkRecordsByDateRange(
             @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
-        return ResponseEntity.ok(workRecordService.getWorkRecordsByDateRange(startDate, endDate));
+            @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            WebRequest webRequest) {
+        if (notModified(workRecordService.getDateRangeVersion(startDate, endDate), webRequest)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        return ResponseEntity.ok().cacheControl(REVALIDATE).varyBy(HttpHeaders.ACCEPT)
+                .body(workRecordService.getWorkRecordsByDateRange(startDate, endDate));
+    }
+
+    // 열 단위 표현 (Accept: application/vnd.albatime.columnar+json 또는 application/cbor)
+    @GetMapping(value = "/range", produces = {WorkRecordColumnsDto.COLUMNAR_JSON_VALUE, WorkRecordColumnsDto.CBOR_VALUE})
+    public ResponseEntity<WorkRecordColumnsDto> getWorkRecordColumnsByDateRange(
+            @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(value = "fields", required = false) String fields,
+            WebRequest webRequest) {
+        List<WorkRecordField> selectedFields = WorkRecordField.parse(fields);  // 없는 필드면 400
+        ResourceVersion version = workRecordService.getDateRangeVersion(startDate, endDate);
+        if (notModified(version.variant(columnsVariant(fields, webRequest)), webRequest)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        return ResponseEntity.ok().cacheControl(REVALIDATE).varyBy(HttpHeaders.ACCEPT)
+                .body(new WorkRecordColumnsDto(workRecordService.getWorkRecordsByDateRange(startDate, endDate), selectedFields));
     }
 
+    // 기간별 근무 기록 내보내기 (NDJSON/CSV) - 응답에 바로 스트리밍
+    @GetMapping("/export")
+    public void exportWorkRecords(
+            @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(value = "format", defaultValue = "ndjson") String format,
+            HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"work-records-" + startDate + "_" + endDate + "." + exportFormat.getExtension() + "\"");
+        workRecordExportService.exportWorkRecords(startDate, endDate, exportFormat, response.getWriter());
+    }
+
+    // 월 목록/통계는 본문과 같은 스냅샷의 검증값으로 ETag 설정 - If-None-Match가 같으면 본문 대신 304
     @GetMapping("/monthly")
     public ResponseEntity<List<WorkRecordResponseDto>> getWorkRecordsByYearAndMonth(
             @RequestParam("year") int year,
             @RequestParam("month") int month) {
-        return ResponseEntity.ok(workRecordService.getWorkRecordsByYearAndMonth(year, month));
+        Versioned<List<WorkRecordResponseDto>> workRecords = workRecordService.getWorkRecordsByYearAndMonth(year, month);
+        return revalidate(workRecords.getVersion()).varyBy(HttpHeaders.ACCEPT).body(workRecords.getBody());
+    }
+
+    // 열 단위 표현 (Accept: application/vnd.albatime.columnar+json 또는 application/cbor)
+    @GetMapping(value = "/monthly", produces = {WorkRecordColumnsDto.COLUMNAR_JSON_VALUE, WorkRecordColumnsDto.CBOR_VALUE})
+    public ResponseEntity<WorkRecordColumnsDto> getWorkRecordColumnsByYearAndMonth(
+            @RequestParam("year") int year,
+            @RequestParam("month") int month,
+            @RequestParam(value = "fields", required = false) String fields,
+            WebRequest webRequest) {
+        List<WorkRecordField> selectedFields = WorkRecordField.parse(fields);  // 없는 필드면 400
+        Versioned<List<WorkRecordResponseDto>> workRecords = workRecordService.getWorkRecordsByYearAndMonth(year, month);
+        return revalidate(workRecords.getVersion().variant(columnsVariant(fields, webRequest))).varyBy(HttpHeaders.ACCEPT)
+                .body(new WorkRecordColumnsDto(workRecords.getBody(), selectedFields));
     }
 
     @GetMapping("/monthly/summary")
     public ResponseEntity<MonthlySummaryDto> getMonthlySummary(
             @RequestParam("year") int year,
             @RequestParam("month") int month) {
-        return ResponseEntity.ok(workRecordService.getMonthlySummary(year, month));
+        Versioned<MonthlySummaryDto> summary = workRecordService.getMonthlySummary(year, month);
+        return revalidate(summary.getVersion()).body(summary.getBody());
+    }
+
+    // 달력(히트맵)용 날짜별 합계 (from/to 포함) - fill=true면 근무가 없는 날도 0으로 포함
+    @GetMapping("/daily")
+    public ResponseEntity<List<DailySummaryDto>> getDailySummaries(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "fill", defaultValue = "false") boolean fill,
+            WebRequest webRequest) {
+        if (notModified(workRecordService.getDateRangeVersion(from, to).variant(fill ? "daily-filled" : "daily"), webRequest)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+        }
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(workRecordService.getDailySummaries(from, to, fill));
+    }
+
+    @GetMapping("/payroll")
+    public ResponseEntity<PayrollDto> getPayroll(
+            @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ResponseEntity.ok(payrollService.calculatePayroll(startDate, endDate));
     }
 
     @PutMapping("/{id}")
@@ -73,9 +195,45 @@ public class WorkRecordController {
         return ResponseEntity.ok(workRecordService.updateWorkRecord(id, requestDto));
     }
 
+    // 부분 수정 - 보낸 필드만 변경, version을 주면 같은 버전일 때만 반영 (다르면 409, 저장된 시간과 같아지면 422)
+    @PatchMapping("/{id}")
+    public ResponseEntity<WorkRecordResponseDto> patchWorkRecord(
+            @PathVariable("id") Long id,
+            @RequestParam(value = "version", required = false) Long version,
+            @RequestBody WorkRecordPatchDto patchDto) {
+        return ResponseEntity.ok(workRecordService.patchWorkRecord(id, version, patchDto));
+    }
+
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteWorkRecord(@PathVariable("id") Long id) {
-        workRecordService.deleteWorkRecord(id);
+    public ResponseEntity<Void> deleteWorkRecord(
+            @PathVariable("id") Long id,
+            @RequestParam(value = "version", required = false) Long version) {
+        workRecordService.deleteWorkRecord(id, version);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    // 기간 일괄 삭제 (from/to 포함)
+    @DeleteMapping(params = {"from", "to"})
+    public ResponseEntity<WorkRecordDeleteResultDto> deleteWorkRecordsByDateRange(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(workRecordService.deleteWorkRecordsByDateRange(from, to));
+    }
+
+    // If-None-Match/If-Modified-Since 확인 - 일치하면 목록을 읽지 않고 304, 아니면 ETag/Last-Modified 헤더만 설정
+    private boolean notModified(ResourceVersion version, WebRequest webRequest) {
+        return webRequest.checkNotModified(version.getEtag(), version.getLastModified());
+    }
+
+    // 200 응답에 검증값 설정 - 요청의 If-None-Match/If-Modified-Since와 같으면 Spring이 본문 없이 304로 바꿈
+    private static ResponseEntity.BodyBuilder revalidate(ResourceVersion version) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(REVALIDATE).eTag(version.getEtag());
+        return version.getLastModified() > 0 ? builder.lastModified(version.getLastModified()) : builder;
+    }
+
+    private String columnsVariant(String fields, WebRequest webRequest) {
+        String accept = webRequest.getHeader(HttpHeaders.ACCEPT);
+        String format = accept != null && accept.contains(WorkRecordColumnsDto.CBOR_VALUE) ? "cbor" : "columnar";
+        return fields == null || fields.isBlank() ? format : format + ":" + fields;
+    }
+}
@@ -0,0 +1,20 @@
+package com.albatime.calc.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheStatsDto {
+
+    private String name;  // 캐시 이름
+    private Long size;  // 현재 항목 수 (추정치)
+    private Long hitCount;  // 적중 횟수
+    private Long missCount;  // 미적중 횟수
+    private Double hitRate;  // 적중률
+    private Long evictionCount;  // 크기/TTL 초과로 제거된 횟수
+}
@@ -0,0 +1,15 @@
+package com.albatime.calc.dto;
+
+import java.time.LocalDate;
+
+// 날짜별 GROUP BY 집계 쿼리 결과 프로젝션
+public interface DailyAggregateView {
+
+    LocalDate getWorkDate();
+
+    Long getShiftCount();  // 근무 기록 수
+
+    Long getTotalMinutes();  // 총 근무 시간 (분)
+
+    Long getTotalWage();  // 총 급여
+}
@@ -0,0 +1,35 @@
+package com.albatime.calc.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 달력(히트맵)용 날짜별 합계 - 근무 기록 전체 대신 하루 한 행
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailySummaryDto {
+
+    private LocalDate workDate;  // 근무 날짜
+    private Integer shiftCount;  // 근무 기록 수
+    private Integer workMinutes;  // 총 근무 시간 (분)
+    private Integer totalWage;  // 총 급여
+
+    public static DailySummaryDto of(DailyAggregateView aggregate) {
+        return DailySummaryDto.builder()
+                .workDate(aggregate.getWorkDate())
+                .shiftCount((int) (long) aggregate.getShiftCount())
+                .workMinutes((int) (long) aggregate.getTotalMinutes())
+                .totalWage((int) (long) aggregate.getTotalWage())
+                .build();
+    }
+
+    // 근무가 없는 날
+    public static DailySummaryDto empty(LocalDate workDate) {
+        return new DailySummaryDto(workDate, 0, 0, 0);
+    }
+}
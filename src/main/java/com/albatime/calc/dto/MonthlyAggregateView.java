@@ -0,0 +1,11 @@
+package com.albatime.calc.dto;
+
+// 월별 GROUP BY 집계 쿼리 결과 프로젝션
+public interface MonthlyAggregateView extends WorkSummaryView {
+
+    Long getUserId();  // 사용자 ID
+
+    Integer getWorkYear();  // 년도
+
+    Integer getWorkMonth();  // 월
+}
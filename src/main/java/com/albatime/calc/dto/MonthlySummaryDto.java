@@ -17,4 +17,44 @@ public class MonthlySummaryDto {
     private Double totalWorkHours;  // 총 근무 시간
     private Integer totalWage;  // 총 급여
     private Integer averageHourlyWage;  // 평균 시급
+
+    // 근무 기록이 없는 달의 집계 값
+    public static final WorkSummaryView EMPTY_SUMMARY = new WorkSummaryView() {
+        @Override
+        public Long getRecordCount() {
+            return 0L;
+        }
+
+        @Override
+        public Long getTotalMinutes() {
+            return 0L;
+        }
+
+        @Override
+        public Long getTotalWage() {
+            return 0L;
+        }
+
+        @Override
+        public Long getHourlyWageSum() {
+            return 0L;
+        }
+    };
+
+    public static MonthlySummaryDto empty(int year, int month) {
+        return of(year, month, EMPTY_SUMMARY);
+    }
+
+    // 집계 쿼리 결과 -> DTO 변환 (평균 시급은 IntStream.average()와 같은 방식으로 계산 후 절사)
+    public static MonthlySummaryDto of(int year, int month, WorkSummaryView summary) {
+        long recordCount = summary.getRecordCount();
+        return MonthlySummaryDto.builder()
+                .year(year)
+                .month(month)
+                .workDays((int) recordCount)
+                .totalWorkHours(summary.getTotalMinutes() / 60.0)
+                .totalWage((int) (long) summary.getTotalWage())
+                .averageHourlyWage(recordCount == 0 ? 0 : (int) ((double) summary.getHourlyWageSum() / recordCount))
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.albatime.calc.dto;
+
+import java.time.LocalDate;
+
+import com.albatime.calc.payrule.PayrollAccumulator;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 기간별 급여 명세 (기본급 + 야간/연장 가산 + 주휴수당)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PayrollDto {
+
+    private LocalDate startDate;  // 시작 날짜
+    private LocalDate endDate;  // 종료 날짜
+    private Long shiftCount;  // 근무 건수
+    private Long totalMinutes;  // 총 근무 시간 (분)
+    private Long nightMinutes;  // 야간 근로 시간 (분)
+    private Long overtimeMinutes;  // 연장 근로 시간 (분)
+    private Long baseWage;  // 기본급
+    private Long nightPremium;  // 야간 가산 수당
+    private Long overtimePremium;  // 연장 가산 수당
+    private Long weeklyHolidayAllowance;  // 주휴수당
+    private Long totalPay;  // 총 지급액
+
+    public static PayrollDto of(LocalDate startDate, LocalDate endDate, PayrollAccumulator payroll) {
+        return PayrollDto.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .shiftCount(payroll.getShiftCount())
+                .totalMinutes(payroll.getTotalMinutes())
+                .nightMinutes(payroll.getNightMinutes())
+                .overtimeMinutes(payroll.getOvertimeMinutes())
+                .baseWage(payroll.getBaseWage())
+                .nightPremium(payroll.getNightPremium())
+                .overtimePremium(payroll.getOvertimePremium())
+                .weeklyHolidayAllowance(payroll.getWeeklyHolidayAllowance())
+                .totalPay(payroll.getTotalPay())
+                .build();
+    }
+}
@@ -0,0 +1,9 @@
+package com.albatime.calc.dto;
+
+import java.time.LocalDate;
+
+// 기간(주/월)별 GROUP BY 집계 쿼리 결과 프로젝션
+public interface PeriodAggregateView extends WorkSummaryView {
+
+    LocalDate getPeriodStart();  // 기간 시작일 (월: 1일, 주: 월요일)
+}
@@ -0,0 +1,35 @@
+package com.albatime.calc.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PeriodSummaryDto {
+
+    private LocalDate periodStart;  // 기간 시작일
+    private LocalDate periodEnd;  // 기간 종료일
+    private Integer workDays;  // 근무 일수
+    private Double totalWorkHours;  // 총 근무 시간
+    private Integer totalWage;  // 총 급여
+    private Integer averageHourlyWage;  // 평균 시급
+
+    // 집계 값 -> DTO 변환 (MonthlySummaryDto.of와 같은 계산)
+    public static PeriodSummaryDto of(LocalDate periodStart, LocalDate periodEnd,
+                                      long recordCount, long totalMinutes, long totalWage, long hourlyWageSum) {
+        return PeriodSummaryDto.builder()
+                .periodStart(periodStart)
+                .periodEnd(periodEnd)
+                .workDays((int) recordCount)
+                .totalWorkHours(totalMinutes / 60.0)
+                .totalWage((int) totalWage)
+                .averageHourlyWage(recordCount == 0 ? 0 : (int) ((double) hourlyWageSum / recordCount))
+                .build();
+    }
+}
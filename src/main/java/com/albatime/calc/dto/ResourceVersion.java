@@ -0,0 +1,27 @@
+package com.albatime.calc.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 조건부 GET 검증값 (ETag, Last-Modified)
+@Getter
+@AllArgsConstructor
+public class ResourceVersion {
+
+    private final String etag;
+    private final long lastModified;  // epoch 밀리초, 모르면 -1
+
+    public static ResourceVersion of(String etag, LocalDateTime lastModified) {
+        return new ResourceVersion(etag, lastModified != null
+                ? lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : -1);
+    }
+
+    // 같은 데이터의 다른 표현(형식/필드 선택)은 ETag를 구분
+    public ResourceVersion variant(String variant) {
+        return new ResourceVersion(etag + "-" + variant, lastModified);
+    }
+}
@@ -0,0 +1,26 @@
+package com.albatime.calc.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 월별 통계 테이블과 근무 기록 원본 집계가 어긋난 사용자/달
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SummaryDriftDto {
+
+    private Long userId;  // 사용자 ID
+    private Integer year;  // 년도
+    private Integer month;  // 월
+    private Long expectedRecordCount;  // 원본 기준 근무 기록 수
+    private Long actualRecordCount;  // 통계 테이블 근무 기록 수
+    private Long expectedTotalMinutes;  // 원본 기준 총 근무 시간 (분)
+    private Long actualTotalMinutes;  // 통계 테이블 총 근무 시간 (분)
+    private Long expectedTotalWage;  // 원본 기준 총 급여
+    private Long actualTotalWage;  // 통계 테이블 총 급여
+    private Long expectedHourlyWageSum;  // 원본 기준 시급 합계
+    private Long actualHourlyWageSum;  // 통계 테이블 시급 합계
+}
@@ -0,0 +1,17 @@
+package com.albatime.calc.dto;
+
+// 기간 통계 집계 단위
+public enum SummaryGranularity {
+
+    WEEK,
+    MONTH;
+
+    public static SummaryGranularity from(String value) {
+        for (SummaryGranularity granularity : values()) {
+            if (granularity.name().equalsIgnoreCase(value)) {
+                return granularity;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 집계 단위입니다: " + value);
+    }
+}
@@ -0,0 +1,22 @@
+package com.albatime.calc.dto;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SummaryReportDto {
+
+    private YearMonth from;  // 시작 월
+    private YearMonth to;  // 종료 월
+    private SummaryGranularity granularity;  // 집계 단위
+    private List<PeriodSummaryDto> periods;  // 기간별 통계 (근무 기록이 있는 기간만)
+    private PeriodSummaryDto total;  // 전체 합계
+}
@@ -0,0 +1,15 @@
+package com.albatime.calc.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 월별 통계 변경 번호 합계/마지막 변경 시간 (해당 기간에 통계 행이 없으면 null)
+@Getter
+@AllArgsConstructor
+public class SummaryRevision {
+
+    private final Long revisionSum;
+    private final LocalDateTime lastModified;
+}
@@ -0,0 +1,13 @@
+package com.albatime.calc.dto;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 열 단위 응답의 fields에 없는 필드 이름 (400)
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class UnsupportedWorkRecordFieldException extends IllegalArgumentException {
+
+    public UnsupportedWorkRecordFieldException(String fieldName) {
+        super("지원하지 않는 필드입니다: " + fieldName);
+    }
+}
@@ -0,0 +1,13 @@
+package com.albatime.calc.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 응답 본문과 그 본문을 읽은 스냅샷의 검증값 - ETag가 항상 본문과 같은 시점을 가리키도록 함께 전달/캐시
+@Getter
+@AllArgsConstructor
+public class Versioned<T> {
+
+    private final T body;
+    private final ResourceVersion version;
+}
@@ -0,0 +1,104 @@
+package com.albatime.calc.dto;
+
+import java.io.IOException;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 근무 기록 목록의 열 단위 표현 - 필드 이름을 행마다 반복하지 않음
+// {"count": 2, "workDate": ["2025-01-01", "2025-01-02"], "totalWage": [80240, 40120]}
+// JSON(application/vnd.albatime.columnar+json)과 CBOR(application/cbor) 모두 같은 구조
+@Getter
+@AllArgsConstructor
+@JsonSerialize(using = WorkRecordColumnsDto.Serializer.class)
+public class WorkRecordColumnsDto {
+
+    public static final String COLUMNAR_JSON_VALUE = "application/vnd.albatime.columnar+json";
+    public static final String CBOR_VALUE = "application/cbor";
+
+    private final List<WorkRecordResponseDto> rows;
+    private final List<WorkRecordField> fields;
+
+    public static WorkRecordColumnsDto of(List<WorkRecordResponseDto> rows, String fields) {
+        return new WorkRecordColumnsDto(rows, WorkRecordField.parse(fields));
+    }
+
+    // 행 목록을 그대로 두고 열 순서로 바로 기록 - 중간 열 배열을 만들지 않음
+    static class Serializer extends StdSerializer<WorkRecordColumnsDto> {
+
+        Serializer() {
+            super(WorkRecordColumnsDto.class);
+        }
+
+        @Override
+        public void serialize(WorkRecordColumnsDto columns, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            List<WorkRecordResponseDto> rows = columns.getRows();
+            generator.writeStartObject();
+            generator.writeNumberField("count", rows.size());
+            for (WorkRecordField field : columns.getFields()) {
+                generator.writeArrayFieldStart(field.getFieldName());
+                for (WorkRecordResponseDto row : rows) {
+                    writeValue(field, row, generator);
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndObject();
+        }
+
+        private void writeValue(WorkRecordField field, WorkRecordResponseDto row, JsonGenerator generator)
+                throws IOException {
+            switch (field) {
+                case ID -> writeNumber(row.getId(), generator);
+                case WORK_DATE -> writeTemporal(row.getWorkDate(), DateTimeFormatter.ISO_LOCAL_DATE, generator);
+                case START_TIME -> writeTemporal(row.getStartTime(), DateTimeFormatter.ISO_LOCAL_TIME, generator);
+                case END_TIME -> writeTemporal(row.getEndTime(), DateTimeFormatter.ISO_LOCAL_TIME, generator);
+                case HOURLY_WAGE -> writeNumber(row.getHourlyWage(), generator);
+                case MEMO -> {
+                    if (row.getMemo() == null) {
+                        generator.writeNull();
+                    } else {
+                        generator.writeString(row.getMemo());
+                    }
+                }
+                case WORK_HOURS -> {
+                    if (row.getWorkHours() == null) {
+                        generator.writeNull();
+                    } else {
+                        generator.writeNumber(row.getWorkHours());
+                    }
+                }
+                case TOTAL_WAGE -> writeNumber(row.getTotalWage(), generator);
+                case CREATED_AT -> writeTemporal(row.getCreatedAt(), DateTimeFormatter.ISO_LOCAL_DATE_TIME, generator);
+                case UPDATED_AT -> writeTemporal(row.getUpdatedAt(), DateTimeFormatter.ISO_LOCAL_DATE_TIME, generator);
+                case VERSION -> writeNumber(row.getVersion(), generator);
+            }
+        }
+
+        private void writeNumber(Number value, JsonGenerator generator) throws IOException {
+            if (value == null) {
+                generator.writeNull();
+            } else {
+                generator.writeNumber(value.longValue());
+            }
+        }
+
+        // 날짜/시간은 기존 JSON 응답과 같은 ISO 문자열
+        private void writeTemporal(TemporalAccessor value, DateTimeFormatter formatter, JsonGenerator generator)
+                throws IOException {
+            if (value == null) {
+                generator.writeNull();
+            } else {
+                generator.writeString(formatter.format(value));
+            }
+        }
+    }
+}
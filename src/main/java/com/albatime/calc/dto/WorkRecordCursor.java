@@ -0,0 +1,42 @@
+package com.albatime.calc.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 키셋 페이지네이션 커서 (workDate, id) - "yyyy-MM-dd:id"를 URL-safe Base64로 인코딩
+@Getter
+@AllArgsConstructor
+public class WorkRecordCursor {
+
+    private final LocalDate workDate;
+    private final Long id;
+
+    public static WorkRecordCursor of(WorkRecordResponseDto last) {
+        return new WorkRecordCursor(last.getWorkDate(), last.getId());
+    }
+
+    public String encode() {
+        String raw = workDate + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static WorkRecordCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            if (separator < 0) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다: " + token);
+            }
+            return new WorkRecordCursor(
+                    LocalDate.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다: " + token);
+        }
+    }
+}
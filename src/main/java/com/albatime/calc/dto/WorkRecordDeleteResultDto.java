@@ -0,0 +1,20 @@
+package com.albatime.calc.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 기간 일괄 삭제 결과
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WorkRecordDeleteResultDto {
+
+    private LocalDate from;
+    private LocalDate to;
+    private int deletedCount;
+}
@@ -0,0 +1,56 @@
+package com.albatime.calc.dto;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 열 단위 응답에 담을 수 있는 근무 기록 필드
+@Getter
+@RequiredArgsConstructor
+public enum WorkRecordField {
+
+    ID("id"),
+    WORK_DATE("workDate"),
+    START_TIME("startTime"),
+    END_TIME("endTime"),
+    HOURLY_WAGE("hourlyWage"),
+    MEMO("memo"),
+    WORK_HOURS("workHours"),
+    TOTAL_WAGE("totalWage"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt"),
+    VERSION("version");
+
+    // fields를 지정하지 않으면 화면에 쓰지 않는 생성/수정 시간, 버전은 제외
+    private static final List<WorkRecordField> DEFAULT_FIELDS =
+            List.copyOf(EnumSet.complementOf(EnumSet.of(CREATED_AT, UPDATED_AT, VERSION)));
+
+    private final String fieldName;
+
+    // "workDate,totalWage" -> 요청 순서대로, 중복 제거
+    public static List<WorkRecordField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return DEFAULT_FIELDS;
+        }
+        List<WorkRecordField> selected = new ArrayList<>();
+        for (String name : fields.split(",")) {
+            WorkRecordField field = from(name.trim());
+            if (!selected.contains(field)) {
+                selected.add(field);
+            }
+        }
+        return selected;
+    }
+
+    public static WorkRecordField from(String value) {
+        for (WorkRecordField field : values()) {
+            if (field.fieldName.equals(value)) {
+                return field;
+            }
+        }
+        throw new UnsupportedWorkRecordFieldException(value);
+    }
+}
@@ -0,0 +1,19 @@
+package com.albatime.calc.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WorkRecordPageDto {
+
+    private List<WorkRecordResponseDto> content;  // 현재 페이지 근무 기록
+    private Integer size;  // 현재 페이지 건수
+    private String nextCursor;  // 다음 페이지 커서 (마지막 페이지면 null)
+}
@@ -0,0 +1,40 @@
+package com.albatime.calc.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 근무 기록 부분 수정 - null인 필드는 그대로 두고 보낸 필드만 변경 (메모를 지우려면 빈 문자열)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WorkRecordPatchDto {
+
+    private LocalDate workDate;
+
+    private LocalTime startTime;
+
+    private LocalTime endTime;
+
+    @Min(value = 1, message = "시급은 1원 이상이어야 합니다.")
+    private Integer hourlyWage;
+
+    @Size(max = 500, message = "메모는 500자 이하여야 합니다.")
+    private String memo;
+
+    public boolean hasChanges() {
+        return workDate != null || startTime != null || endTime != null || hourlyWage != null || memo != null;
+    }
+
+    // 근무 시간/총 급여를 다시 계산해야 하는 변경인지
+    public boolean changesWage() {
+        return startTime != null || endTime != null || hourlyWage != null;
+    }
+}
@@ -26,6 +26,15 @@ public class WorkRecordResponseDto {
     private Integer totalWage;  // 총 급여
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;  // 수정/삭제 시 낙관적 잠금 확인용
+
+    // JPQL 프로젝션용 생성자 - 저장된 근무 시간(분)으로 workHours 계산
+    public WorkRecordResponseDto(Long id, LocalDate workDate, LocalTime startTime, LocalTime endTime, Integer hourlyWage,
+                                 String memo, Integer workMinutes, Integer totalWage,
+                                 LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
+        this(id, workDate, startTime, endTime, hourlyWage, memo,
+                workMinutes != null ? workMinutes / 60.0 : null, totalWage, createdAt, updatedAt, version);
+    }
 
     // Entity -> DTO 변환
     public static WorkRecordResponseDto from(WorkRecord workRecord) {
@@ -36,10 +45,11 @@ public class WorkRecordResponseDto {
                 .endTime(workRecord.getEndTime())
                 .hourlyWage(workRecord.getHourlyWage())
                 .memo(workRecord.getMemo())
-                .workHours(workRecord.calculateWorkHours())
-                .totalWage(workRecord.calculateTotalWage())
+                .workHours(workRecord.getWorkMinutes() / 60.0)
+                .totalWage(workRecord.getTotalWage())
                 .createdAt(workRecord.getCreatedAt())
                 .updatedAt(workRecord.getUpdatedAt())
+                .version(workRecord.getVersion())
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.albatime.calc.dto;
+
+// 근무 기록 집계 쿼리 결과 프로젝션
+public interface WorkSummaryView {
+
+    Long getRecordCount();  // 근무 기록 수
+
+    Long getTotalMinutes();  // 총 근무 시간 (분)
+
+    Long getTotalWage();  // 총 급여 (건별 원 단위 절사 후 합계)
+
+    Long getHourlyWageSum();  // 시급 합계 (평균 시급 계산용)
+}
@@ -0,0 +1,56 @@
+package com.albatime.calc.entity;
+
+import java.time.LocalDateTime;
+
+import com.albatime.calc.dto.WorkSummaryView;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 사용자별 월별 통계 (work_records 변경 시 같은 트랜잭션에서 증감 반영)
+// 키에 사용자가 추가되어 기존 monthly_summary 대신 새 테이블 사용 - 기동 시 소유자 배정과 함께 재계산, 이전 테이블은 삭제 (WorkRecordBackfillRunner)
+@Entity
+@Table(name = "user_monthly_summary")
+@IdClass(MonthlySummaryId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MonthlySummary implements WorkSummaryView {
+
+    @Id
+    private Long userId;  // 사용자 ID
+
+    @Id
+    private Integer workYear;  // 년도
+
+    @Id
+    private Integer workMonth;  // 월
+
+    @Column(nullable = false)
+    private Long recordCount;  // 근무 기록 수
+
+    @Column(nullable = false)
+    private Long totalMinutes;  // 총 근무 시간 (분)
+
+    @Column(nullable = false)
+    private Long totalWage;  // 총 급여
+
+    @Column(nullable = false)
+    private Long hourlyWageSum;  // 시급 합계 (평균 시급 계산용)
+
+    @Column
+    private Long revision;  // 변경 번호 - 증감/재계산마다 1씩 증가 (조건부 GET ETag용)
+
+    @Column
+    private LocalDateTime updatedAt;  // 마지막 변경 시간 (조건부 GET Last-Modified용)
+}
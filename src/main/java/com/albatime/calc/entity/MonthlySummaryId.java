@@ -0,0 +1,20 @@
+package com.albatime.calc.entity;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 월별 통계 복합 키 (사용자, 년도, 월)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class MonthlySummaryId implements Serializable {
+
+    private Long userId;
+    private Integer workYear;
+    private Integer workMonth;
+}
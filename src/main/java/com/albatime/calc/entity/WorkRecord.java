@@ -4,14 +4,18 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,7 +23,12 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "work_records")
+@Table(name = "work_records", indexes = {
+        // 사용자별 월/연도/기간 조회용 범위 스캔 인덱스 - 뒤에 붙는 PK(id)로 (work_date, id) 키셋 정렬도 인덱스 순서
+        @Index(name = "idx_work_records_user_date", columnList = "user_id, work_date"),
+        // 사용자별 기간 통계용 커버링 인덱스 (테이블 접근 없이 집계)
+        @Index(name = "idx_work_records_user_summary", columnList = "user_id, work_date, work_minutes, total_wage, hourly_wage")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -31,6 +40,9 @@ public class WorkRecord {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Column(name = "user_id", nullable = false)
+    private Long userId;  // 소유자 (app_users.id) - 컬럼 추가 전 기존 행은 기동 시 기본 사용자로 채운 뒤 NOT NULL로 변경
+
     @Column(nullable = false)
     private LocalDate workDate;  // 근무 날짜
 
@@ -46,26 +58,49 @@ public class WorkRecord {
     @Column(length = 500)
     private String memo;  // 메모
 
+    @Column
+    private Integer workMinutes;  // 근무 시간 (분) - 저장 시 계산
+
+    @Column
+    private Integer totalWage;  // 총 급여 (원) - 저장 시 계산
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;  // 생성 시간
 
     @Column(nullable = false)
     private LocalDateTime updatedAt;  // 수정 시간
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;  // 낙관적 잠금 버전 - 기존 행은 컬럼 추가 시 0으로 채워짐
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        applyDerivedColumns();
     }
 
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        applyDerivedColumns();
+    }
+
+    // 근무 시간/총 급여 컬럼 갱신 - 시작/종료 시간이나 시급을 바꾼 뒤 호출
+    public void applyDerivedColumns() {
+        workMinutes = (int) calculateWorkMinutes();
+        totalWage = calculateTotalWage();
     }
 
-    // 근무 시간 계산 (분 단위)
+    // 근무 시간 계산 (분 단위) - 종료 시간이 시작 시간보다 이르면 자정을 넘기는 근무
     public long calculateWorkMinutes() {
-        return java.time.Duration.between(startTime, endTime).toMinutes();
+        int seconds = endTime.toSecondOfDay() - startTime.toSecondOfDay();
+        if (seconds < 0) {
+            seconds += LocalTime.MAX.toSecondOfDay() + 1;
+        }
+        return seconds / 60;
     }
 
     // 근무 시간 계산 (시간 단위, 소수점)
@@ -73,9 +108,8 @@ public class WorkRecord {
         return calculateWorkMinutes() / 60.0;
     }
 
-    // 총 급여 계산
+    // 총 급여 계산 (정수 연산, 원 단위 절사)
     public int calculateTotalWage() {
-        double hours = calculateWorkHours();
-        return (int) (hours * hourlyWage);
+        return (int) (calculateWorkMinutes() * hourlyWage / 60);
     }
 }
\ No newline at end of file
@@ -0,0 +1,97 @@
+package com.albatime.calc.payrule;
+
+// 컴파일된 가산 수당 규칙 - 불변, 스레드 안전
+// 근무는 (시작 분, 종료 분) 구간으로 다루며 종료가 시작 이하이면 자정을 넘기는 근무로 본다
+public final class CompiledPayRules {
+
+    static final int MINUTES_PER_DAY = 24 * 60;
+    private static final long PREMIUM_DIVISOR = 60L * 100;  // 분 -> 시간, % -> 비율
+
+    // 하루(0~1440분) 안의 야간 구간 - 22:00~06:00이면 [0, 360), [1320, 1440)
+    private final int[] nightWindowStarts;
+    private final int[] nightWindowEnds;
+    private final int nightPremiumPercent;
+    private final int dailyOvertimeMinutes;
+    private final int weeklyOvertimeMinutes;
+    private final int overtimePremiumPercent;
+    private final int weeklyHolidayMinMinutes;
+    private final int weeklyHolidayFullMinutes;
+    private final int weeklyHolidayPaidMinutes;
+
+    CompiledPayRules(PayRuleSet ruleSet) {
+        int nightStart = ruleSet.getNightStartHour() * 60;
+        int nightEnd = ruleSet.getNightEndHour() * 60;
+        if (nightStart == nightEnd) {
+            nightWindowStarts = new int[0];
+            nightWindowEnds = new int[0];
+        } else if (nightStart < nightEnd) {
+            nightWindowStarts = new int[] {nightStart};
+            nightWindowEnds = new int[] {nightEnd};
+        } else {
+            nightWindowStarts = new int[] {0, nightStart};
+            nightWindowEnds = new int[] {nightEnd, MINUTES_PER_DAY};
+        }
+        nightPremiumPercent = ruleSet.getNightPremiumPercent();
+        dailyOvertimeMinutes = ruleSet.getDailyOvertimeHours() * 60;
+        weeklyOvertimeMinutes = ruleSet.getWeeklyOvertimeHours() * 60;
+        overtimePremiumPercent = ruleSet.getOvertimePremiumPercent();
+        weeklyHolidayMinMinutes = ruleSet.getWeeklyHolidayMinHours() * 60;
+        weeklyHolidayFullMinutes = ruleSet.getWeeklyHolidayFullHours() * 60;
+        weeklyHolidayPaidMinutes = ruleSet.getWeeklyHolidayPaidHours() * 60;
+    }
+
+    public PayrollAccumulator newPayroll() {
+        return new PayrollAccumulator(this);
+    }
+
+    // 근무 시간 (분)
+    public static int shiftMinutes(int startMinute, int endMinute) {
+        return normalizeEnd(startMinute, endMinute) - startMinute;
+    }
+
+    // 야간 근로 시간 (분) - 근무는 최대 이틀에 걸치므로 당일/익일 야간 구간과의 겹침만 합산
+    public int nightMinutes(int startMinute, int endMinute) {
+        int end = normalizeEnd(startMinute, endMinute);
+        int total = 0;
+        for (int offset = 0; offset < end; offset += MINUTES_PER_DAY) {
+            for (int i = 0; i < nightWindowStarts.length; i++) {
+                int from = Math.max(startMinute, offset + nightWindowStarts[i]);
+                int to = Math.min(end, offset + nightWindowEnds[i]);
+                if (to > from) {
+                    total += to - from;
+                }
+            }
+        }
+        return total;
+    }
+
+    long nightPremium(int nightMinutes, int hourlyWage) {
+        return (long) nightMinutes * hourlyWage * nightPremiumPercent / PREMIUM_DIVISOR;
+    }
+
+    long overtimePremium(int overtimeMinutes, int hourlyWage) {
+        return (long) overtimeMinutes * hourlyWage * overtimePremiumPercent / PREMIUM_DIVISOR;
+    }
+
+    // 주휴수당 = 유급 주휴 시간 x 주 소정근로(만근 기준까지) 비율 x 소정근로 가중 평균 시급
+    long weeklyHolidayAllowance(int regularMinutes, long regularWageMinutes) {
+        if (regularMinutes < weeklyHolidayMinMinutes || regularMinutes == 0) {
+            return 0;
+        }
+        int paidBase = Math.min(regularMinutes, weeklyHolidayFullMinutes);
+        return regularWageMinutes * paidBase * weeklyHolidayPaidMinutes
+                / ((long) regularMinutes * weeklyHolidayFullMinutes * 60);
+    }
+
+    int dailyOvertimeMinutes() {
+        return dailyOvertimeMinutes;
+    }
+
+    int weeklyOvertimeMinutes() {
+        return weeklyOvertimeMinutes;
+    }
+
+    private static int normalizeEnd(int startMinute, int endMinute) {
+        return endMinute <= startMinute ? endMinute + MINUTES_PER_DAY : endMinute;
+    }
+}
@@ -0,0 +1,41 @@
+package com.albatime.calc.payrule;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 가산 수당 규칙 (야간/연장 가산, 주휴수당) - CompiledPayRules로 한 번 컴파일해서 사용
+@Getter
+@Builder
+public class PayRuleSet {
+
+    @Builder.Default
+    private final int nightStartHour = 22;  // 야간 근로 시작 (시)
+
+    @Builder.Default
+    private final int nightEndHour = 6;  // 야간 근로 종료 (시) - 시작보다 작으면 다음 날
+
+    @Builder.Default
+    private final int nightPremiumPercent = 50;  // 야간 가산율 (%)
+
+    @Builder.Default
+    private final int dailyOvertimeHours = 8;  // 1일 연장 근로 기준 (시간)
+
+    @Builder.Default
+    private final int weeklyOvertimeHours = 40;  // 1주 연장 근로 기준 (시간)
+
+    @Builder.Default
+    private final int overtimePremiumPercent = 50;  // 연장 가산율 (%)
+
+    @Builder.Default
+    private final int weeklyHolidayMinHours = 15;  // 주휴수당 최소 주 소정근로 (시간)
+
+    @Builder.Default
+    private final int weeklyHolidayFullHours = 40;  // 주휴수당 만근 기준 주 소정근로 (시간)
+
+    @Builder.Default
+    private final int weeklyHolidayPaidHours = 8;  // 만근 시 유급 주휴 (시간)
+
+    public CompiledPayRules compile() {
+        return new CompiledPayRules(this);
+    }
+}
@@ -0,0 +1,102 @@
+package com.albatime.calc.payrule;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import lombok.Getter;
+
+// 급여 계산 누적기 - 근무를 추가할 때마다 가산 수당과 주휴수당을 증분 계산 (스레드 안전하지 않음)
+// 근무 1건 처리에 객체를 만들지 않음 (주가 바뀔 때 주 상태만 생성)
+public final class PayrollAccumulator {
+
+    private final CompiledPayRules rules;
+
+    @Getter
+    private long shiftCount;  // 근무 건수
+    @Getter
+    private long totalMinutes;  // 총 근무 시간 (분)
+    @Getter
+    private long nightMinutes;  // 야간 근로 시간 (분)
+    @Getter
+    private long overtimeMinutes;  // 연장 근로 시간 (분, 1일/1주 기준 합계)
+    @Getter
+    private long baseWage;  // 기본급
+    @Getter
+    private long nightPremium;  // 야간 가산 수당
+    @Getter
+    private long overtimePremium;  // 연장 가산 수당
+    @Getter
+    private long weeklyHolidayAllowance;  // 주휴수당
+
+    private final Map<Long, WeekState> weeks = new HashMap<>();
+    private long lastWeekIndex = Long.MIN_VALUE;
+    private WeekState lastWeek;
+
+    PayrollAccumulator(CompiledPayRules rules) {
+        this.rules = rules;
+    }
+
+    // 근무 추가 - 자정을 넘기는 근무는 시작일 근무로 계산
+    public void add(long epochDay, int startMinute, int endMinute, int hourlyWage) {
+        int minutes = CompiledPayRules.shiftMinutes(startMinute, endMinute);
+        int night = rules.nightMinutes(startMinute, endMinute);
+
+        // 1970-01-01은 목요일 -> 월요일 시작 주 번호/요일
+        long weekIndex = Math.floorDiv(epochDay + 3, 7);
+        int dayOfWeek = (int) Math.floorMod(epochDay + 3, 7);
+        WeekState week = week(weekIndex);
+
+        // 1일 기준 초과분
+        int dayBefore = week.dayMinutes[dayOfWeek];
+        int dayAfter = dayBefore + minutes;
+        week.dayMinutes[dayOfWeek] = dayAfter;
+        int dailyOvertime = excess(dayAfter, rules.dailyOvertimeMinutes()) - excess(dayBefore, rules.dailyOvertimeMinutes());
+        int regular = minutes - dailyOvertime;
+
+        // 1주 기준 초과분 (1일 초과분을 뺀 소정근로 기준)
+        int weekBefore = week.regularMinutes;
+        int weekAfter = weekBefore + regular;
+        week.regularMinutes = weekAfter;
+        int weeklyOvertime = excess(weekAfter, rules.weeklyOvertimeMinutes()) - excess(weekBefore, rules.weeklyOvertimeMinutes());
+        int overtime = dailyOvertime + weeklyOvertime;
+
+        // 주휴수당은 주 단위로 다시 계산해 차이만 반영
+        week.regularWageMinutes += (long) regular * hourlyWage;
+        long allowance = rules.weeklyHolidayAllowance(week.regularMinutes, week.regularWageMinutes);
+        weeklyHolidayAllowance += allowance - week.allowance;
+        week.allowance = allowance;
+
+        shiftCount++;
+        totalMinutes += minutes;
+        nightMinutes += night;
+        overtimeMinutes += overtime;
+        baseWage += (long) minutes * hourlyWage / 60;
+        nightPremium += rules.nightPremium(night, hourlyWage);
+        overtimePremium += rules.overtimePremium(overtime, hourlyWage);
+    }
+
+    // 총 지급액
+    public long getTotalPay() {
+        return baseWage + nightPremium + overtimePremium + weeklyHolidayAllowance;
+    }
+
+    private WeekState week(long weekIndex) {
+        if (weekIndex != lastWeekIndex) {
+            lastWeek = weeks.computeIfAbsent(weekIndex, key -> new WeekState());
+            lastWeekIndex = weekIndex;
+        }
+        return lastWeek;
+    }
+
+    private static int excess(int minutes, int threshold) {
+        return Math.max(0, minutes - threshold);
+    }
+
+    // 주별 누적 상태
+    private static final class WeekState {
+        private final int[] dayMinutes = new int[7];
+        private int regularMinutes;
+        private long regularWageMinutes;
+        private long allowance;
+    }
+}
@@ -0,0 +1,99 @@
+package com.albatime.calc.repository;
+
+import com.albatime.calc.dto.SummaryRevision;
+import com.albatime.calc.entity.MonthlySummary;
+import com.albatime.calc.entity.MonthlySummaryId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+import static com.albatime.calc.repository.WorkRecordRepository.TOTAL_WAGE_SQL;
+import static com.albatime.calc.repository.WorkRecordRepository.WORK_MINUTES_SQL;
+
+@Repository
+public interface MonthlySummaryRepository extends JpaRepository<MonthlySummary, MonthlySummaryId> {
+
+    String INSERT_COLUMNS_SQL = "INSERT INTO user_monthly_summary "
+            + "(user_id, work_year, work_month, record_count, total_minutes, total_wage, hourly_wage_sum, revision, updated_at) ";
+
+    // 증감 누적 - INSERT ... SELECT에서는 work_records와 컬럼명이 겹치므로 기존 값은 테이블명으로 한정
+    String DELTA_UPSERT_SQL = "ON DUPLICATE KEY UPDATE "
+            + "record_count = user_monthly_summary.record_count + VALUES(record_count), "
+            + "total_minutes = user_monthly_summary.total_minutes + VALUES(total_minutes), "
+            + "total_wage = user_monthly_summary.total_wage + VALUES(total_wage), "
+            + "hourly_wage_sum = user_monthly_summary.hourly_wage_sum + VALUES(hourly_wage_sum), "
+            + "revision = COALESCE(user_monthly_summary.revision, 0) + 1, "
+            + "updated_at = VALUES(updated_at)";
+
+    // 월별 통계 증감 반영 (행이 없으면 생성) - 동시 갱신에도 원자적으로 누적
+    @Modifying
+    @Query(value = INSERT_COLUMNS_SQL
+            + "VALUES (:userId, :year, :month, :recordCount, :totalMinutes, :totalWage, :hourlyWageSum, 1, NOW(6)) "
+            + DELTA_UPSERT_SQL,
+            nativeQuery = true)
+    int applyDelta(@Param("userId") Long userId,
+                   @Param("year") int year,
+                   @Param("month") int month,
+                   @Param("recordCount") long recordCount,
+                   @Param("totalMinutes") long totalMinutes,
+                   @Param("totalWage") long totalWage,
+                   @Param("hourlyWageSum") long hourlyWageSum);
+
+    // 근무 기록 한 건을 통계에 더하거나 뺌 (sign 1/-1) - 행을 애플리케이션으로 읽지 않고 SQL 안에서 반영
+    // version을 주면 같은 버전일 때만 반영 (버전이 다르면 뒤이은 수정/삭제도 0건이 되어 롤백)
+    @Modifying
+    @Query(value = INSERT_COLUMNS_SQL
+            + "SELECT w.user_id, YEAR(w.work_date), MONTH(w.work_date), :sign, "
+            + ":sign * w.work_minutes, :sign * w.total_wage, :sign * w.hourly_wage, 1, NOW(6) "
+            + "FROM work_records w WHERE w.id = :id AND w.user_id = :userId AND (:version IS NULL OR w.version = :version) "
+            + DELTA_UPSERT_SQL,
+            nativeQuery = true)
+    int applyRecordDelta(@Param("userId") Long userId, @Param("id") Long id,
+                         @Param("version") Long version, @Param("sign") int sign);
+
+    // 날짜 구간(startDate 포함, endDate 제외)의 근무 기록을 달별로 합산해 통계에서 뺌 - 구간 삭제 직전에 실행
+    @Modifying
+    @Query(value = INSERT_COLUMNS_SQL
+            + "SELECT w.user_id, YEAR(w.work_date), MONTH(w.work_date), -COUNT(*), "
+            + "-CAST(SUM(w.work_minutes) AS SIGNED), -CAST(SUM(w.total_wage) AS SIGNED), -CAST(SUM(w.hourly_wage) AS SIGNED), "
+            + "1, NOW(6) "
+            + "FROM work_records w WHERE w.user_id = :userId AND w.work_date >= :startDate AND w.work_date < :endDate "
+            + "GROUP BY w.user_id, YEAR(w.work_date), MONTH(w.work_date) "
+            + DELTA_UPSERT_SQL,
+            nativeQuery = true)
+    int subtractRange(@Param("userId") Long userId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 재계산 전 전체 초기화 (근무 기록이 모두 삭제된 달도 0으로 맞추기 위함)
+    @Modifying
+    @Query(value = "UPDATE user_monthly_summary SET record_count = 0, total_minutes = 0, total_wage = 0, hourly_wage_sum = 0, "
+            + "revision = COALESCE(revision, 0) + 1, updated_at = NOW(6)",
+            nativeQuery = true)
+    int resetAll();
+
+    // work_records 기준으로 전체 사용자 월별 통계 재계산
+    @Modifying
+    @Query(value = INSERT_COLUMNS_SQL
+            + "SELECT user_id, YEAR(work_date), MONTH(work_date), COUNT(*), "
+            + "CAST(SUM(" + WORK_MINUTES_SQL + ") AS SIGNED), "
+            + "CAST(SUM(" + TOTAL_WAGE_SQL + ") AS SIGNED), "
+            + "SUM(hourly_wage), 1, NOW(6) "
+            + "FROM work_records WHERE user_id IS NOT NULL GROUP BY user_id, YEAR(work_date), MONTH(work_date) "
+            + "ON DUPLICATE KEY UPDATE "
+            + "record_count = VALUES(record_count), "
+            + "total_minutes = VALUES(total_minutes), "
+            + "total_wage = VALUES(total_wage), "
+            + "hourly_wage_sum = VALUES(hourly_wage_sum), "
+            + "revision = COALESCE(user_monthly_summary.revision, 0) + 1, "
+            + "updated_at = VALUES(updated_at)",
+            nativeQuery = true)
+    int rebuildFromWorkRecords();
+
+    // 사용자의 월 구간(년*100+월, 양 끝 포함) 변경 번호 합계/마지막 변경 시간 - 변경 번호는 줄지 않으므로 합계가 같으면 변경 없음
+    @Query("SELECT new com.albatime.calc.dto.SummaryRevision(SUM(s.revision), MAX(s.updatedAt)) FROM MonthlySummary s "
+            + "WHERE s.userId = :userId AND s.workYear * 100 + s.workMonth BETWEEN :fromKey AND :toKey")
+    SummaryRevision findRevision(@Param("userId") Long userId, @Param("fromKey") int fromKey, @Param("toKey") int toKey);
+}
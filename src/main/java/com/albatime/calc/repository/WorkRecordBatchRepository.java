@@ -0,0 +1,71 @@
+package com.albatime.calc.repository;
+
+import com.albatime.calc.entity.WorkRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+// IDENTITY 전략은 Hibernate INSERT 배치를 끄므로 다건 저장은 JDBC 배치로 처리
+@Repository
+@RequiredArgsConstructor
+public class WorkRecordBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO work_records (user_id, work_date, start_time, end_time, hourly_wage, memo, work_minutes, total_wage, created_at, updated_at, version) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${albatime.work-records.batch.size:500}")
+    private int batchSize;
+
+    // batchSize 단위로 나눠 INSERT 하고 생성된 ID를 엔티티에 채움
+    public List<WorkRecord> insertAll(List<WorkRecord> workRecords) {
+        for (int from = 0; from < workRecords.size(); from += batchSize) {
+            List<WorkRecord> chunk = workRecords.subList(from, Math.min(from + batchSize, workRecords.size()));
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+
+            jdbcTemplate.batchUpdate(
+                    con -> con.prepareStatement(INSERT_SQL, new String[] {"id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            WorkRecord workRecord = chunk.get(i);
+                            ps.setLong(1, workRecord.getUserId());
+                            ps.setObject(2, workRecord.getWorkDate());
+                            ps.setObject(3, workRecord.getStartTime());
+                            ps.setObject(4, workRecord.getEndTime());
+                            ps.setInt(5, workRecord.getHourlyWage());
+                            ps.setString(6, workRecord.getMemo());
+                            ps.setInt(7, workRecord.getWorkMinutes());
+                            ps.setInt(8, workRecord.getTotalWage());
+                            ps.setObject(9, workRecord.getCreatedAt());
+                            ps.setObject(10, workRecord.getUpdatedAt());
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return chunk.size();
+                        }
+                    },
+                    keyHolder);
+
+            List<Map<String, Object>> keys = keyHolder.getKeyList();
+            for (int i = 0; i < chunk.size(); i++) {
+                Number id = (Number) keys.get(i).values().iterator().next();
+                chunk.get(i).setId(id.longValue());
+                chunk.get(i).setVersion(0L);
+            }
+        }
+        return workRecords;
+    }
+}
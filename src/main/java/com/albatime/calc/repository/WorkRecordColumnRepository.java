@@ -0,0 +1,53 @@
+package com.albatime.calc.repository;
+
+import com.albatime.calc.store.HotMonthKey;
+import com.albatime.calc.store.MonthColumns;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.List;
+
+// 메모리 저장소 적재용 - 엔티티/DTO를 만들지 않고 ResultSet에서 열 배열로 바로 읽음
+@Repository
+@RequiredArgsConstructor
+public class WorkRecordColumnRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 한 사용자의 한 달 - (user_id, work_date) 인덱스 범위 스캔
+    public MonthColumns findMonth(long userId, YearMonth month) {
+        MonthColumns.Builder builder = MonthColumns.builder();
+        jdbcTemplate.query(
+                "SELECT id, work_date, start_time, end_time, hourly_wage, memo, work_minutes, total_wage, created_at, updated_at, version "
+                        + "FROM work_records WHERE user_id = ? AND work_date >= ? AND work_date < ? ORDER BY work_date, id",
+                rs -> {
+                    builder.add(rs.getLong(1),
+                            rs.getObject(2, LocalDate.class),
+                            rs.getObject(3, LocalTime.class),
+                            rs.getObject(4, LocalTime.class),
+                            rs.getInt(5),
+                            rs.getString(6),
+                            rs.getInt(7),
+                            rs.getInt(8),
+                            rs.getObject(9, LocalDateTime.class),
+                            rs.getObject(10, LocalDateTime.class),
+                            rs.getLong(11));
+                },
+                userId, month.atDay(1), month.plusMonths(1).atDay(1));
+        return builder.build();
+    }
+
+    // 기록이 있는 (사용자, 달) 목록 - 기동 시 최근 달 미리 읽기용
+    public List<HotMonthKey> findMonthKeys(YearMonth from, YearMonth to) {
+        return jdbcTemplate.query(
+                "SELECT DISTINCT user_id, YEAR(work_date), MONTH(work_date) FROM work_records "
+                        + "WHERE user_id IS NOT NULL AND work_date >= ? AND work_date < ?",
+                (rs, rowNum) -> new HotMonthKey(rs.getLong(1), YearMonth.of(rs.getInt(2), rs.getInt(3))),
+                from.atDay(1), to.plusMonths(1).atDay(1));
+    }
+}
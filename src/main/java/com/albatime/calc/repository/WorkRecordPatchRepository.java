@@ -0,0 +1,62 @@
+package com.albatime.calc.repository;
+
+import com.albatime.calc.dto.WorkRecordPatchDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.albatime.calc.repository.WorkRecordRepository.CALCULATED_MINUTES_SQL;
+import static com.albatime.calc.repository.WorkRecordRepository.CALCULATED_WAGE_SQL;
+
+// 부분 수정 - 기존 행을 읽지 않고 바뀐 컬럼만 SET 하는 UPDATE 한 문장으로 처리
+@Repository
+@RequiredArgsConstructor
+public class WorkRecordPatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 수정된 행 수 반환 - 0이면 없는(또는 다른 사용자의) ID, 버전 불일치, 또는 시작/종료 시간이 같아지는 변경
+    public int patch(Long userId, Long id, Long version, WorkRecordPatchDto patchDto, LocalDateTime updatedAt) {
+        StringBuilder sql = new StringBuilder("UPDATE work_records SET ");
+        List<Object> args = new ArrayList<>();
+        appendIfPresent(sql, args, "work_date", patchDto.getWorkDate());
+        appendIfPresent(sql, args, "start_time", patchDto.getStartTime());
+        appendIfPresent(sql, args, "end_time", patchDto.getEndTime());
+        appendIfPresent(sql, args, "hourly_wage", patchDto.getHourlyWage());
+        appendIfPresent(sql, args, "memo", patchDto.getMemo());
+        if (patchDto.changesWage()) {
+            // MySQL은 SET을 왼쪽부터 적용하므로 위에서 바꾼 시간/시급 기준으로 계산됨
+            sql.append("work_minutes = ").append(CALCULATED_MINUTES_SQL).append(", ");
+            sql.append("total_wage = ").append(CALCULATED_WAGE_SQL).append(", ");
+        }
+        sql.append("updated_at = ?, version = version + 1 WHERE id = ? AND user_id = ?");
+        args.add(updatedAt);
+        args.add(id);
+        args.add(userId);
+
+        if (version != null) {
+            sql.append(" AND version = ?");
+            args.add(version);
+        }
+        // 시작/종료 시간 중 하나만 바꾸면 저장된 나머지 시간과 같아지지 않는지 조건으로 확인
+        if (patchDto.getStartTime() != null && patchDto.getEndTime() == null) {
+            sql.append(" AND end_time <> ?");
+            args.add(patchDto.getStartTime());
+        } else if (patchDto.getEndTime() != null && patchDto.getStartTime() == null) {
+            sql.append(" AND start_time <> ?");
+            args.add(patchDto.getEndTime());
+        }
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    private void appendIfPresent(StringBuilder sql, List<Object> args, String column, Object value) {
+        if (value != null) {
+            sql.append(column).append(" = ?, ");
+            args.add(value);
+        }
+    }
+}
@@ -1,28 +1,201 @@
 package com.albatime.calc.repository;
 
+import com.albatime.calc.dto.DailyAggregateView;
+import com.albatime.calc.dto.MonthlyAggregateView;
+import com.albatime.calc.dto.PeriodAggregateView;
+import com.albatime.calc.dto.WorkRecordResponseDto;
+import com.albatime.calc.dto.WorkSummaryView;
 import com.albatime.calc.entity.WorkRecord;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface WorkRecordRepository extends JpaRepository<WorkRecord, Long> {
 
+    // 네이티브 집계용 컬럼 - 저장 시 계산된 근무 시간(분)/총 급여
+    String WORK_MINUTES_SQL = "work_minutes";
+    String TOTAL_WAGE_SQL = "total_wage";
+    String SUMMARY_COLUMNS_SQL = "COUNT(*) AS recordCount, "
+            + "CAST(COALESCE(SUM(" + WORK_MINUTES_SQL + "), 0) AS SIGNED) AS totalMinutes, "
+            + "CAST(COALESCE(SUM(" + TOTAL_WAGE_SQL + "), 0) AS SIGNED) AS totalWage, "
+            + "CAST(COALESCE(SUM(hourly_wage), 0) AS SIGNED) AS hourlyWageSum";
+
+    // 시작/종료 시간, 시급으로 근무 시간(분)/총 급여 계산 - WorkRecord.applyDerivedColumns()와 같은 정수 연산 (자정 넘김 포함)
+    String CALCULATED_MINUTES_SQL = "MOD(TIME_TO_SEC(end_time) - TIME_TO_SEC(start_time) + 86400, 86400) DIV 60";
+    String CALCULATED_WAGE_SQL = "(" + CALCULATED_MINUTES_SQL + ") * hourly_wage DIV 60";
+
+    // 조회 API용 DTO 프로젝션 - 엔티티/영속성 컨텍스트를 거치지 않고 응답 DTO로 바로 읽음
+    String RESPONSE_DTO_SELECT = "SELECT new com.albatime.calc.dto.WorkRecordResponseDto("
+            + "w.id, w.workDate, w.startTime, w.endTime, w.hourlyWage, w.memo, "
+            + "w.workMinutes, w.totalWage, w.createdAt, w.updatedAt, w.version) FROM WorkRecord w ";
+
+    // 수정용 단건 조회 - 다른 사용자의 기록은 없는 것으로 처리
+    Optional<WorkRecord> findByIdAndUserId(Long id, Long userId);
+
     // 특정 날짜의 근무 기록 조회
-    List<WorkRecord> findByWorkDate(LocalDate workDate);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<WorkRecord> findByUserIdAndWorkDate(Long userId, LocalDate workDate);
 
     // 날짜 범위로 근무 기록 조회
-    List<WorkRecord> findByWorkDateBetweenOrderByWorkDateAsc(LocalDate startDate, LocalDate endDate);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<WorkRecord> findByUserIdAndWorkDateBetweenOrderByWorkDateAsc(Long userId, LocalDate startDate, LocalDate endDate);
+
+    // 날짜 구간 조회 (startDate 포함, endDate 제외) - (user_id, work_date) 인덱스 범위 스캔
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT w FROM WorkRecord w WHERE w.userId = :userId AND w.workDate >= :startDate AND w.workDate < :endDate "
+            + "ORDER BY w.workDate ASC")
+    List<WorkRecord> findByWorkDateRange(@Param("userId") Long userId,
+                                         @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 내보내기용 스트리밍 조회 (startDate 포함, endDate 제외) - JDBC fetch size 단위로 커서에서 읽음
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT w FROM WorkRecord w WHERE w.userId = :userId AND w.workDate >= :startDate AND w.workDate < :endDate "
+            + "ORDER BY w.workDate ASC, w.id ASC")
+    Stream<WorkRecord> streamByWorkDateRange(@Param("userId") Long userId,
+                                             @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 키셋 페이지네이션 첫 페이지 - (workDate, id) 순서
+    @Query(RESPONSE_DTO_SELECT + "WHERE w.userId = :userId ORDER BY w.workDate ASC, w.id ASC")
+    List<WorkRecordResponseDto> findFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    // 키셋 페이지네이션 다음 페이지 - 커서 (workDate, id) 이후 행부터 조회
+    @Query(RESPONSE_DTO_SELECT + "WHERE w.userId = :userId AND w.workDate >= :workDate AND (w.workDate > :workDate OR w.id > :id) "
+            + "ORDER BY w.workDate ASC, w.id ASC")
+    List<WorkRecordResponseDto> findPageAfter(@Param("userId") Long userId,
+                                              @Param("workDate") LocalDate workDate, @Param("id") Long id, Pageable pageable);
+
+    // 단건 조회 (DTO 프로젝션) - 다른 사용자의 기록은 없는 것으로 처리
+    @Query(RESPONSE_DTO_SELECT + "WHERE w.id = :id AND w.userId = :userId")
+    Optional<WorkRecordResponseDto> findDtoById(@Param("userId") Long userId, @Param("id") Long id);
+
+    // 단건 수정 시간 조회 - 조건부 GET 검증용
+    @Query("SELECT w.updatedAt FROM WorkRecord w WHERE w.id = :id AND w.userId = :userId")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("userId") Long userId, @Param("id") Long id);
+
+    // 전체 조회 (DTO 프로젝션)
+    @Query(RESPONSE_DTO_SELECT + "WHERE w.userId = :userId ORDER BY w.workDate ASC, w.id ASC")
+    List<WorkRecordResponseDto> findAllDtos(@Param("userId") Long userId);
+
+    // 날짜 구간 조회 (DTO 프로젝션, startDate 포함, endDate 제외)
+    @Query(RESPONSE_DTO_SELECT + "WHERE w.userId = :userId AND w.workDate >= :startDate AND w.workDate < :endDate "
+            + "ORDER BY w.workDate ASC, w.id ASC")
+    List<WorkRecordResponseDto> findDtosByWorkDateRange(@Param("userId") Long userId,
+                                                        @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 날짜 구간 집계 (startDate 포함, endDate 제외) - 엔티티 로딩 없이 한 번의 쿼리로 계산
+    @Query(value = "SELECT " + SUMMARY_COLUMNS_SQL
+            + " FROM work_records WHERE user_id = :userId AND work_date >= :startDate AND work_date < :endDate",
+            nativeQuery = true)
+    WorkSummaryView summarizeByWorkDateRange(@Param("userId") Long userId,
+                                             @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 전체 사용자 월별 집계 - 월별 통계 테이블 정합성 확인용
+    @Query(value = "SELECT user_id AS userId, YEAR(work_date) AS workYear, MONTH(work_date) AS workMonth, " + SUMMARY_COLUMNS_SQL
+            + " FROM work_records WHERE user_id IS NOT NULL GROUP BY user_id, YEAR(work_date), MONTH(work_date)",
+            nativeQuery = true)
+    List<MonthlyAggregateView> summarizeAllByMonth();
+
+    // 월 단위 기간 집계 (startDate 포함, endDate 제외) - 한 번의 GROUP BY로 여러 달 계산
+    @Query(value = "SELECT DATE_SUB(work_date, INTERVAL DAYOFMONTH(work_date) - 1 DAY) AS periodStart, " + SUMMARY_COLUMNS_SQL
+            + " FROM work_records WHERE user_id = :userId AND work_date >= :startDate AND work_date < :endDate"
+            + " GROUP BY periodStart ORDER BY periodStart",
+            nativeQuery = true)
+    List<PeriodAggregateView> summarizeByMonth(@Param("userId") Long userId,
+                                               @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 주 단위(월요일 시작) 기간 집계 (startDate 포함, endDate 제외) - periodStart는 그 주 월요일이라 startDate보다 앞설 수 있음
+    @Query(value = "SELECT DATE_SUB(work_date, INTERVAL WEEKDAY(work_date) DAY) AS periodStart, " + SUMMARY_COLUMNS_SQL
+            + " FROM work_records WHERE user_id = :userId AND work_date >= :startDate AND work_date < :endDate"
+            + " GROUP BY periodStart ORDER BY periodStart",
+            nativeQuery = true)
+    List<PeriodAggregateView> summarizeByWeek(@Param("userId") Long userId,
+                                              @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 날짜별 집계 (startDate 포함, endDate 제외) - (user_id, work_date, work_minutes, total_wage, ...) 인덱스만으로 날짜 순 그룹핑
+    @Query(value = "SELECT work_date AS workDate, COUNT(*) AS shiftCount, "
+            + "CAST(COALESCE(SUM(" + WORK_MINUTES_SQL + "), 0) AS SIGNED) AS totalMinutes, "
+            + "CAST(COALESCE(SUM(" + TOTAL_WAGE_SQL + "), 0) AS SIGNED) AS totalWage"
+            + " FROM work_records WHERE user_id = :userId AND work_date >= :startDate AND work_date < :endDate"
+            + " GROUP BY work_date ORDER BY work_date",
+            nativeQuery = true)
+    List<DailyAggregateView> summarizeByDay(@Param("userId") Long userId,
+                                            @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 특정 년/월 집계
+    default WorkSummaryView summarizeByYearMonth(Long userId, YearMonth yearMonth) {
+        return summarizeByWorkDateRange(userId, yearMonth.atDay(1), yearMonth.plusMonths(1).atDay(1));
+    }
+
+    // 근무 시간/총 급여 컬럼 도입 전 데이터 채우기
+    @Modifying
+    @Query(value = "UPDATE work_records SET "
+            + "work_minutes = " + CALCULATED_MINUTES_SQL + ", "
+            + "total_wage = " + CALCULATED_WAGE_SQL + " "
+            + "WHERE work_minutes IS NULL OR total_wage IS NULL",
+            nativeQuery = true)
+    int backfillDerivedColumns();
+
+    // 소유자 컬럼 도입 전 데이터를 기본 사용자에게 배정 (NOT NULL 컬럼으로 새로 추가되면 기존 행은 0으로 채워짐)
+    @Modifying
+    @Query(value = "UPDATE work_records SET user_id = :userId WHERE user_id IS NULL OR user_id = 0", nativeQuery = true)
+    int backfillOwner(@Param("userId") Long userId);
+
+    // 단건 버전 조회 - 수정/삭제된 행이 없을 때 없는 ID(404)인지 버전 충돌(409)인지 구분
+    @Query("SELECT w.version FROM WorkRecord w WHERE w.id = :id AND w.userId = :userId")
+    Optional<Long> findVersionById(@Param("userId") Long userId, @Param("id") Long id);
+
+    // 단건 삭제 - 조회 없이 한 문장으로 삭제, version을 주면 같은 버전일 때만 삭제
+    @Modifying
+    @Query("DELETE FROM WorkRecord w WHERE w.id = :id AND w.userId = :userId AND (:version IS NULL OR w.version = :version)")
+    int deleteByIdIfVersion(@Param("userId") Long userId, @Param("id") Long id, @Param("version") Long version);
+
+    // 날짜 구간 일괄 삭제 (startDate 포함, endDate 제외) - (user_id, work_date) 인덱스 범위로 한 문장에 삭제
+    @Modifying
+    @Query("DELETE FROM WorkRecord w WHERE w.userId = :userId AND w.workDate >= :startDate AND w.workDate < :endDate")
+    int deleteByWorkDateRange(@Param("userId") Long userId,
+                              @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
     // 특정 년/월의 근무 기록 조회
-    @Query("SELECT w FROM WorkRecord w WHERE YEAR(w.workDate) = :year AND MONTH(w.workDate) = :month ORDER BY w.workDate ASC")
-    List<WorkRecord> findByYearAndMonth(@Param("year") int year, @Param("month") int month);
+    default List<WorkRecord> findByYearMonth(Long userId, YearMonth yearMonth) {
+        return findByWorkDateRange(userId, yearMonth.atDay(1), yearMonth.plusMonths(1).atDay(1));
+    }
+
+    // 특정 년/월의 근무 기록 조회 (DTO 프로젝션)
+    default List<WorkRecordResponseDto> findDtosByYearMonth(Long userId, YearMonth yearMonth) {
+        return findDtosByWorkDateRange(userId, yearMonth.atDay(1), yearMonth.plusMonths(1).atDay(1));
+    }
 
     // 특정 년도의 근무 기록 조회
-    @Query("SELECT w FROM WorkRecord w WHERE YEAR(w.workDate) = :year ORDER BY w.workDate ASC")
-    List<WorkRecord> findByYear(@Param("year") int year);
-}
\ No newline at end of file
+    default List<WorkRecord> findByYear(Long userId, Year year) {
+        return findByWorkDateRange(userId, year.atDay(1), year.plusYears(1).atDay(1));
+    }
+
+    // 특정 년/월의 근무 기록 조회 (YEAR()/MONTH() 함수 대신 날짜 구간으로 변환)
+    default List<WorkRecord> findByYearAndMonth(Long userId, int year, int month) {
+        return findByYearMonth(userId, YearMonth.of(year, month));
+    }
+
+    // 특정 년도의 근무 기록 조회 (YEAR() 함수 대신 날짜 구간으로 변환)
+    default List<WorkRecord> findByYear(Long userId, int year) {
+        return findByYear(userId, Year.of(year));
+    }
+}
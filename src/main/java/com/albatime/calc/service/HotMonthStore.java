@@ -0,0 +1,23 @@
+package com.albatime.calc.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import com.albatime.calc.dto.MonthlySummaryDto;
+import com.albatime.calc.dto.WorkRecordResponseDto;
+
+public interface HotMonthStore {
+
+    // 한 달 목록 - 메모리에 없거나 월별 통계 변경 번호가 달라졌으면 DB에서 읽어 적재
+    List<WorkRecordResponseDto> findMonth(Long userId, YearMonth month);
+
+    // 날짜 구간 목록 (startDate 포함, endDate 제외) - 구간이 너무 길면 비어 있음 (DB에서 조회)
+    Optional<List<WorkRecordResponseDto>> findRange(Long userId, LocalDate startDate, LocalDate endDate);
+
+    MonthlySummaryDto getSummary(Long userId, int year, int month);
+
+    // 최근 달 미리 읽기 - 적재한 (사용자, 달) 수 반환
+    int warmUp();
+}
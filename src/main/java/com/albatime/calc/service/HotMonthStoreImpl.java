@@ -0,0 +1,123 @@
+package com.albatime.calc.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.unit.DataSize;
+
+import com.albatime.calc.dto.MonthlySummaryDto;
+import com.albatime.calc.dto.WorkRecordResponseDto;
+import com.albatime.calc.repository.WorkRecordColumnRepository;
+import com.albatime.calc.store.HotMonthKey;
+import com.albatime.calc.store.MonthColumns;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// 최근 달 메모리 저장소 - 사용자별 한 달을 열 배열(MonthColumns)로 보관
+// 추정 크기 합이 max-size를 넘으면 자주 쓰지 않는 달부터 제거 (Caffeine 가중치 기반 제거)
+// 달마다 적재 당시의 월별 통계 변경 번호를 같이 보관 - 조회할 때 변경 번호를 읽어 다르면 다시 적재
+// - 쓰기는 같은 트랜잭션에서 변경 번호를 올리므로 따로 무효화하지 않아도 커밋 후 첫 조회에서 바뀐 달을 다시 읽음
+// - 변경 번호와 목록을 호출한 트랜잭션의 같은 스냅샷에서 읽으므로 (replica여도) 둘이 어긋나지 않음 - 별도 연결을 잡지 않음
+// - 늦게 끝난 이전 스냅샷의 적재가 새 값을 덮지 않도록 변경 번호가 큰 쪽만 남김
+@Service
+@ConditionalOnProperty(name = "albatime.work-records.hot-store.enabled", havingValue = "true")
+@Transactional(readOnly = true)
+public class HotMonthStoreImpl implements HotMonthStore {
+
+    private final WorkRecordColumnRepository workRecordColumnRepository;
+    private final MonthlySummaryRollupService monthlySummaryRollupService;
+    private final Cache<HotMonthKey, LoadedMonth> months;
+    private final int warmMonths;
+    private final int rangeMaxMonths;
+
+    public HotMonthStoreImpl(WorkRecordColumnRepository workRecordColumnRepository,
+                             MonthlySummaryRollupService monthlySummaryRollupService,
+                             MeterRegistry meterRegistry,
+                             @Value("${albatime.work-records.hot-store.max-size:64MB}") DataSize maxSize,
+                             @Value("${albatime.work-records.hot-store.expire-after-write:10m}") Duration expireAfterWrite,
+                             @Value("${albatime.work-records.hot-store.warm-months:2}") int warmMonths,
+                             @Value("${albatime.work-records.hot-store.range-max-months:3}") int rangeMaxMonths) {
+        this.workRecordColumnRepository = workRecordColumnRepository;
+        this.monthlySummaryRollupService = monthlySummaryRollupService;
+        this.warmMonths = warmMonths;
+        this.rangeMaxMonths = rangeMaxMonths;
+        this.months = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((HotMonthKey key, LoadedMonth loaded) -> (int) Math.min(loaded.columns().estimatedBytes(), Integer.MAX_VALUE))
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, months, "workRecordHotMonths");
+        Gauge.builder("albatime.work-records.hot-store.bytes", months,
+                        cache -> cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L))
+                .description("메모리 저장소에 적재된 달의 추정 크기 합")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<WorkRecordResponseDto> findMonth(Long userId, YearMonth month) {
+        return load(userId, month).toDtos();
+    }
+
+    @Override
+    public Optional<List<WorkRecordResponseDto>> findRange(Long userId, LocalDate startDate, LocalDate endDate) {
+        YearMonth first = YearMonth.from(startDate);
+        YearMonth last = YearMonth.from(endDate.minusDays(1));
+        if (ChronoUnit.MONTHS.between(first, last) >= rangeMaxMonths) {
+            return Optional.empty();
+        }
+
+        List<WorkRecordResponseDto> workRecords = new ArrayList<>();
+        for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            load(userId, month).appendTo(workRecords, startDate, endDate);
+        }
+        return Optional.of(workRecords);
+    }
+
+    @Override
+    public MonthlySummaryDto getSummary(Long userId, int year, int month) {
+        return MonthlySummaryDto.of(year, month, load(userId, YearMonth.of(year, month)));
+    }
+
+    @Override
+    public int warmUp() {
+        YearMonth current = YearMonth.now();
+        List<HotMonthKey> keys = workRecordColumnRepository.findMonthKeys(current.minusMonths(warmMonths - 1L), current);
+        // 조회와 같은 적재 경로 - 기동 중 들어온 쓰기와 겹쳐도 변경 번호가 달라 다음 조회에서 다시 적재
+        keys.forEach(key -> load(key.userId(), key.month()));
+        return keys.size();
+    }
+
+    private MonthColumns load(Long userId, YearMonth month) {
+        HotMonthKey key = new HotMonthKey(userId, month);
+        Long revisionSum = monthlySummaryRollupService.getRevision(userId, month, month).getRevisionSum();
+        long revision = revisionSum != null ? revisionSum : 0;
+        LoadedMonth cached = months.getIfPresent(key);
+        if (cached != null && cached.revision() == revision) {
+            return cached.columns();
+        }
+
+        LoadedMonth loaded = new LoadedMonth(revision, workRecordColumnRepository.findMonth(userId, month));
+        months.asMap().merge(key, loaded, (existing, fresh) -> fresh.revision() >= existing.revision() ? fresh : existing);
+        return loaded.columns();
+    }
+
+    // 적재한 달과 그때의 월별 통계 변경 번호
+    private record LoadedMonth(long revision, MonthColumns columns) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.albatime.calc.service;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 기동 시 최근 달을 메모리 저장소에 미리 적재 - 기존 데이터 채우기(WorkRecordBackfillRunner) 이후 실행
+@Slf4j
+@Component
+@Order(10)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "albatime.work-records.hot-store.enabled", havingValue = "true")
+public class HotMonthWarmupRunner implements ApplicationRunner {
+
+    private final HotMonthStore hotMonthStore;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        int loaded = hotMonthStore.warmUp();
+        log.info("최근 달 메모리 적재 완료 - {}개월분, {}ms", loaded, (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,29 @@
+package com.albatime.calc.service;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 기동 시 월별 통계 재계산 (--albatime.summary.rebuild-on-startup=true)
+// 월별 통계 테이블 도입 전 데이터가 있는 경우 최초 1회 실행
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "albatime.summary.rebuild-on-startup", havingValue = "true")
+public class MonthlySummaryRebuildRunner implements ApplicationRunner {
+
+    private final MonthlySummaryRollupService monthlySummaryRollupService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("월별 통계 재계산 시작");
+        monthlySummaryRollupService.rebuild();
+        if (!monthlySummaryRollupService.findDrift().isEmpty()) {
+            log.warn("재계산 후에도 월별 통계 불일치가 남아 있습니다.");
+        }
+    }
+}
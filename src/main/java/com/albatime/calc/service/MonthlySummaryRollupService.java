@@ -0,0 +1,33 @@
+package com.albatime.calc.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import com.albatime.calc.dto.MonthlySummaryDto;
+import com.albatime.calc.dto.SummaryDriftDto;
+import com.albatime.calc.dto.SummaryRevision;
+import com.albatime.calc.entity.WorkRecord;
+
+public interface MonthlySummaryRollupService {
+
+    void add(WorkRecord workRecord);
+
+    void addAll(List<WorkRecord> workRecords);
+
+    void remove(WorkRecord workRecord);
+
+    void addById(Long userId, Long id);
+
+    void removeById(Long userId, Long id, Long version);
+
+    void removeRange(Long userId, LocalDate startDate, LocalDate endDate);
+
+    MonthlySummaryDto getSummary(Long userId, int year, int month);
+
+    SummaryRevision getRevision(Long userId, YearMonth from, YearMonth to);
+
+    int rebuild();
+
+    List<SummaryDriftDto> findDrift();
+}
@@ -0,0 +1,170 @@
+package com.albatime.calc.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.albatime.calc.dto.MonthlyAggregateView;
+import com.albatime.calc.dto.MonthlySummaryDto;
+import com.albatime.calc.dto.SummaryDriftDto;
+import com.albatime.calc.dto.SummaryRevision;
+import com.albatime.calc.dto.WorkSummaryView;
+import com.albatime.calc.entity.MonthlySummary;
+import com.albatime.calc.entity.MonthlySummaryId;
+import com.albatime.calc.entity.WorkRecord;
+import com.albatime.calc.repository.MonthlySummaryRepository;
+import com.albatime.calc.repository.WorkRecordRepository;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@Timed("albatime.service")
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MonthlySummaryRollupServiceImpl implements MonthlySummaryRollupService {
+
+    private final MonthlySummaryRepository monthlySummaryRepository;
+    private final WorkRecordRepository workRecordRepository;
+
+    // 증감 반영은 근무 기록 변경과 반드시 같은 트랜잭션에서 실행
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void add(WorkRecord workRecord) {
+        applyDeltas(List.of(workRecord), 1);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addAll(List<WorkRecord> workRecords) {
+        applyDeltas(workRecords, 1);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void remove(WorkRecord workRecord) {
+        applyDeltas(List.of(workRecord), -1);
+    }
+
+    // 엔티티 없이 ID로 반영 - 조회 없는 수정/삭제 경로용
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addById(Long userId, Long id) {
+        monthlySummaryRepository.applyRecordDelta(userId, id, null, 1);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removeById(Long userId, Long id, Long version) {
+        monthlySummaryRepository.applyRecordDelta(userId, id, version, -1);
+    }
+
+    // 구간 삭제 전에 호출 (startDate 포함, endDate 제외)
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removeRange(Long userId, LocalDate startDate, LocalDate endDate) {
+        monthlySummaryRepository.subtractRange(userId, startDate, endDate);
+    }
+
+    @Override
+    public MonthlySummaryDto getSummary(Long userId, int year, int month) {
+        return monthlySummaryRepository.findById(new MonthlySummaryId(userId, year, month))
+                .map(summary -> MonthlySummaryDto.of(year, month, summary))
+                .orElseGet(() -> MonthlySummaryDto.empty(year, month));
+    }
+
+    @Override
+    public SummaryRevision getRevision(Long userId, YearMonth from, YearMonth to) {
+        return monthlySummaryRepository.findRevision(userId,
+                from.getYear() * 100 + from.getMonthValue(), to.getYear() * 100 + to.getMonthValue());
+    }
+
+    @Override
+    @Transactional
+    public int rebuild() {
+        monthlySummaryRepository.resetAll();
+        int rebuilt = monthlySummaryRepository.rebuildFromWorkRecords();
+        log.info("월별 통계 재계산 완료 - 반영 행 수: {}", rebuilt);
+        return rebuilt;
+    }
+
+    @Override
+    public List<SummaryDriftDto> findDrift() {
+        Map<MonthlySummaryId, WorkSummaryView> expected = new HashMap<>();
+        for (MonthlyAggregateView aggregate : workRecordRepository.summarizeAllByMonth()) {
+            expected.put(new MonthlySummaryId(aggregate.getUserId(), aggregate.getWorkYear(), aggregate.getWorkMonth()), aggregate);
+        }
+        Map<MonthlySummaryId, WorkSummaryView> actual = new HashMap<>();
+        for (MonthlySummary summary : monthlySummaryRepository.findAll()) {
+            actual.put(new MonthlySummaryId(summary.getUserId(), summary.getWorkYear(), summary.getWorkMonth()), summary);
+        }
+
+        Set<MonthlySummaryId> months = new HashSet<>(expected.keySet());
+        months.addAll(actual.keySet());
+
+        List<SummaryDriftDto> drifts = new ArrayList<>();
+        for (MonthlySummaryId month : months) {
+            WorkSummaryView expectedSummary = expected.getOrDefault(month, MonthlySummaryDto.EMPTY_SUMMARY);
+            WorkSummaryView actualSummary = actual.getOrDefault(month, MonthlySummaryDto.EMPTY_SUMMARY);
+            if (!sameTotals(expectedSummary, actualSummary)) {
+                drifts.add(SummaryDriftDto.builder()
+                        .userId(month.getUserId())
+                        .year(month.getWorkYear())
+                        .month(month.getWorkMonth())
+                        .expectedRecordCount(expectedSummary.getRecordCount())
+                        .actualRecordCount(actualSummary.getRecordCount())
+                        .expectedTotalMinutes(expectedSummary.getTotalMinutes())
+                        .actualTotalMinutes(actualSummary.getTotalMinutes())
+                        .expectedTotalWage(expectedSummary.getTotalWage())
+                        .actualTotalWage(actualSummary.getTotalWage())
+                        .expectedHourlyWageSum(expectedSummary.getHourlyWageSum())
+                        .actualHourlyWageSum(actualSummary.getHourlyWageSum())
+                        .build());
+            }
+        }
+
+        if (!drifts.isEmpty()) {
+            log.warn("월별 통계 불일치 발견 - {}건 (사용자/월)", drifts.size());
+        }
+        return drifts;
+    }
+
+    // === Private Helper Methods ===
+
+    // 사용자/달별로 합산해 한 달에 한 번만 갱신
+    private void applyDeltas(List<WorkRecord> workRecords, int sign) {
+        Map<MonthlySummaryId, long[]> deltas = new HashMap<>();
+        for (WorkRecord workRecord : workRecords) {
+            MonthlySummaryId key = new MonthlySummaryId(workRecord.getUserId(),
+                    workRecord.getWorkDate().getYear(), workRecord.getWorkDate().getMonthValue());
+            long[] delta = deltas.computeIfAbsent(key, id -> new long[4]);
+            delta[0] += 1;
+            delta[1] += workRecord.getWorkMinutes();
+            delta[2] += workRecord.getTotalWage();
+            delta[3] += workRecord.getHourlyWage();
+        }
+
+        deltas.forEach((month, delta) -> monthlySummaryRepository.applyDelta(
+                month.getUserId(), month.getWorkYear(), month.getWorkMonth(),
+                sign * delta[0], sign * delta[1], sign * delta[2], sign * delta[3]));
+    }
+
+    private boolean sameTotals(WorkSummaryView expected, WorkSummaryView actual) {
+        return Objects.equals(expected.getRecordCount(), actual.getRecordCount())
+                && Objects.equals(expected.getTotalMinutes(), actual.getTotalMinutes())
+                && Objects.equals(expected.getTotalWage(), actual.getTotalWage())
+                && Objects.equals(expected.getHourlyWageSum(), actual.getHourlyWageSum());
+    }
+}
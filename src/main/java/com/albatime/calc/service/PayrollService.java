@@ -0,0 +1,10 @@
+package com.albatime.calc.service;
+
+import java.time.LocalDate;
+
+import com.albatime.calc.dto.PayrollDto;
+
+public interface PayrollService {
+
+    PayrollDto calculatePayroll(LocalDate startDate, LocalDate endDate);
+}
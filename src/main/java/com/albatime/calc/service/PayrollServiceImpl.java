@@ -0,0 +1,58 @@
+package com.albatime.calc.service;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.albatime.auth.service.CurrentUserService;
+import com.albatime.calc.dto.PayrollDto;
+import com.albatime.calc.entity.WorkRecord;
+import com.albatime.calc.payrule.CompiledPayRules;
+import com.albatime.calc.payrule.PayrollAccumulator;
+import com.albatime.calc.repository.WorkRecordRepository;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@Timed("albatime.service")
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PayrollServiceImpl implements PayrollService {
+
+    private final WorkRecordRepository workRecordRepository;
+    private final EntityManager entityManager;
+    private final CompiledPayRules compiledPayRules;
+    private final CurrentUserService currentUserService;
+
+    // 주 단위 규칙(1주 연장, 주휴수당)은 기간 안의 근무만으로 계산
+    @Override
+    public PayrollDto calculatePayroll(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("시작 날짜는 종료 날짜보다 이전이어야 합니다.");
+        }
+
+        PayrollAccumulator payroll = compiledPayRules.newPayroll();
+        Long userId = currentUserService.getCurrentUserId();
+        try (Stream<WorkRecord> workRecords = workRecordRepository.streamByWorkDateRange(userId, startDate, endDate.plusDays(1))) {
+            Iterator<WorkRecord> iterator = workRecords.iterator();
+            while (iterator.hasNext()) {
+                WorkRecord workRecord = iterator.next();
+                payroll.add(workRecord.getWorkDate().toEpochDay(),
+                        workRecord.getStartTime().toSecondOfDay() / 60,
+                        workRecord.getEndTime().toSecondOfDay() / 60,
+                        workRecord.getHourlyWage());
+                entityManager.detach(workRecord);
+            }
+        }
+
+        log.debug("급여 계산 완료 - {}~{}, 총 {}건, 지급액: {}", startDate, endDate, payroll.getShiftCount(), payroll.getTotalPay());
+        return PayrollDto.of(startDate, endDate, payroll);
+    }
+}
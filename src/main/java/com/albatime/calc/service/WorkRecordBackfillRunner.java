@@ -0,0 +1,99 @@
+package com.albatime.calc.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.albatime.auth.repository.AppUserRepository;
+import com.albatime.calc.repository.WorkRecordRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 기동 시 근무 시간/총 급여 컬럼이 비어 있는 기존 데이터 채우기
+// 소유자가 없는 기존 데이터는 기본 사용자 소유로 지정
+// 채운 행이 있으면 정수 연산 기준으로 월별 통계도 다시 계산
+// ddl-auto update는 컬럼 제약 변경/테이블 삭제를 하지 않으므로 소유자 NOT NULL 변경과 이전 월별 통계 테이블 삭제도 여기서 처리
+@Slf4j
+@Component
+@Order(0)
+public class WorkRecordBackfillRunner implements ApplicationRunner {
+
+    private final WorkRecordRepository workRecordRepository;
+    private final AppUserRepository appUserRepository;
+    private final MonthlySummaryRollupService monthlySummaryRollupService;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final String seedUsername;
+
+    public WorkRecordBackfillRunner(WorkRecordRepository workRecordRepository,
+                                    AppUserRepository appUserRepository,
+                                    MonthlySummaryRollupService monthlySummaryRollupService,
+                                    TransactionTemplate transactionTemplate,
+                                    JdbcTemplate jdbcTemplate,
+                                    @Value("${albatime.auth.seed-user.username:mingulover}") String seedUsername) {
+        this.workRecordRepository = workRecordRepository;
+        this.appUserRepository = appUserRepository;
+        this.monthlySummaryRollupService = monthlySummaryRollupService;
+        this.transactionTemplate = transactionTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.seedUsername = seedUsername;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer backfilled = transactionTemplate.execute(status -> workRecordRepository.backfillDerivedColumns());
+        if (backfilled != null && backfilled > 0) {
+            log.info("근무 시간/총 급여 컬럼 채우기 완료 - {}건", backfilled);
+        }
+
+        Integer owned = appUserRepository.findIdByUsername(seedUsername)
+                .map(userId -> transactionTemplate.execute(status -> workRecordRepository.backfillOwner(userId)))
+                .orElse(0);
+        if (owned != null && owned > 0) {
+            log.info("소유자 없는 근무 기록을 기본 사용자({})에 지정 - {}건", seedUsername, owned);
+        }
+
+        if ((backfilled != null && backfilled > 0) || (owned != null && owned > 0)) {
+            monthlySummaryRollupService.rebuild();
+        }
+
+        requireOwner();
+        dropLegacySummaryTable();
+    }
+
+    // 소유자 컬럼이 nullable로 추가된 기존 DB - 모든 행에 소유자가 채워진 뒤에만 NOT NULL로 변경
+    private void requireOwner() {
+        if (!"YES".equals(columnNullable("work_records", "user_id"))) {
+            return;
+        }
+        Integer unowned = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM work_records WHERE user_id IS NULL OR user_id = 0", Integer.class);
+        if (unowned != null && unowned > 0) {
+            log.warn("소유자 없는 근무 기록이 {}건 남아 있어 user_id를 NOT NULL로 바꾸지 않습니다 - 기본 사용자를 만든 뒤 다시 기동하세요.", unowned);
+            return;
+        }
+        jdbcTemplate.execute("ALTER TABLE work_records MODIFY user_id BIGINT NOT NULL");
+        log.info("work_records.user_id NOT NULL로 변경 완료");
+    }
+
+    // 사용자 키 도입 전 월별 통계 테이블 - user_monthly_summary로 대체되어 더 이상 갱신되지 않음
+    private void dropLegacySummaryTable() {
+        Integer legacy = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'monthly_summary'",
+                Integer.class);
+        if (legacy != null && legacy > 0) {
+            jdbcTemplate.execute("DROP TABLE monthly_summary");
+            log.info("이전 월별 통계 테이블(monthly_summary) 삭제 완료");
+        }
+    }
+
+    private String columnNullable(String table, String column) {
+        return jdbcTemplate.query(
+                "SELECT is_nullable FROM information_schema.columns WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ?",
+                rs -> rs.next() ? rs.getString(1) : null, table, column);
+    }
+}
@@ -0,0 +1,13 @@
+package com.albatime.calc.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 요청한 버전과 저장된 버전이 달라 수정/삭제하지 않음 (409) - 다시 조회한 뒤 재시도
+@ResponseStatus(HttpStatus.CONFLICT)
+public class WorkRecordConflictException extends RuntimeException {
+
+    public WorkRecordConflictException(Long id, Long version) {
+        super("다른 요청이 먼저 근무 기록을 변경했습니다. ID: " + id + ", 요청 버전: " + version);
+    }
+}
@@ -0,0 +1,12 @@
+package com.albatime.calc.service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+
+import com.albatime.calc.dto.ExportFormat;
+
+public interface WorkRecordExportService {
+
+    long exportWorkRecords(LocalDate startDate, LocalDate endDate, ExportFormat format, Writer writer) throws IOException;
+}
@@ -0,0 +1,110 @@
+package com.albatime.calc.service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.albatime.auth.service.CurrentUserService;
+import com.albatime.calc.dto.ExportFormat;
+import com.albatime.calc.dto.WorkRecordResponseDto;
+import com.albatime.calc.entity.WorkRecord;
+import com.albatime.calc.repository.WorkRecordRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@Timed("albatime.service")
+@Transactional(readOnly = true)
+public class WorkRecordExportServiceImpl implements WorkRecordExportService {
+
+    private static final String CSV_HEADER = "id,workDate,startTime,endTime,hourlyWage,workHours,totalWage,memo\n";
+
+    private final WorkRecordRepository workRecordRepository;
+    private final EntityManager entityManager;
+    private final CurrentUserService currentUserService;
+    private final ObjectWriter jsonWriter;
+
+    public WorkRecordExportServiceImpl(WorkRecordRepository workRecordRepository,
+                                       EntityManager entityManager,
+                                       CurrentUserService currentUserService,
+                                       ObjectMapper objectMapper) {
+        this.workRecordRepository = workRecordRepository;
+        this.entityManager = entityManager;
+        this.currentUserService = currentUserService;
+        this.jsonWriter = objectMapper.writerFor(WorkRecordResponseDto.class);
+    }
+
+    @Override
+    public long exportWorkRecords(LocalDate startDate, LocalDate endDate, ExportFormat format, Writer writer) throws IOException {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("시작 날짜는 종료 날짜보다 이전이어야 합니다.");
+        }
+
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+        }
+
+        Long userId = currentUserService.getCurrentUserId();
+        long count = 0;
+        // 한 행씩 읽어 바로 쓰고 영속성 컨텍스트에서 분리 - 행 수와 무관하게 힙 사용량 일정
+        try (Stream<WorkRecord> workRecords = workRecordRepository.streamByWorkDateRange(userId, startDate, endDate.plusDays(1))) {
+            Iterator<WorkRecord> iterator = workRecords.iterator();
+            while (iterator.hasNext()) {
+                WorkRecord workRecord = iterator.next();
+                WorkRecordResponseDto dto = WorkRecordResponseDto.from(workRecord);
+                entityManager.detach(workRecord);
+
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(dto, writer);
+                } else {
+                    writer.write(jsonWriter.writeValueAsString(dto));
+                    writer.write('\n');
+                }
+                count++;
+            }
+        }
+        writer.flush();
+
+        log.info("근무 기록 내보내기 완료 - {}~{}, 형식: {}, 총 {}건", startDate, endDate, format, count);
+        return count;
+    }
+
+    private void writeCsvRow(WorkRecordResponseDto dto, Writer writer) throws IOException {
+        writer.write(String.valueOf(dto.getId()));
+        writer.write(',');
+        writer.write(dto.getWorkDate().toString());
+        writer.write(',');
+        writer.write(dto.getStartTime().toString());
+        writer.write(',');
+        writer.write(dto.getEndTime().toString());
+        writer.write(',');
+        writer.write(String.valueOf(dto.getHourlyWage()));
+        writer.write(',');
+        writer.write(String.valueOf(dto.getWorkHours()));
+        writer.write(',');
+        writer.write(String.valueOf(dto.getTotalWage()));
+        writer.write(',');
+        writer.write(escapeCsv(dto.getMemo()));
+        writer.write('\n');
+    }
+
+    private String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
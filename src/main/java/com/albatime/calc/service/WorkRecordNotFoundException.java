@@ -0,0 +1,13 @@
+package com.albatime.calc.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 없는 근무 기록 ID (404) - 기존 조회/수정 경로의 IllegalArgumentException 처리와 호환
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class WorkRecordNotFoundException extends IllegalArgumentException {
+
+    public WorkRecordNotFoundException(Long id) {
+        super("근무 기록을 찾을 수 없습니다. ID: " + id);
+    }
+}
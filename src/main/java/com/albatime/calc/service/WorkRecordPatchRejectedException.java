@@ -0,0 +1,13 @@
+package com.albatime.calc.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 부분 수정을 저장된 값에 적용하면 시작/종료 시간이 같아져 반영하지 않음 (422) - 요청만으로는 알 수 없는 저장값과의 충돌
+@ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+public class WorkRecordPatchRejectedException extends IllegalArgumentException {
+
+    public WorkRecordPatchRejectedException(Long id) {
+        super("수정하면 시작 시간과 종료 시간이 같아집니다. ID: " + id);
+    }
+}
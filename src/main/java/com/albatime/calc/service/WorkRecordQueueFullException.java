@@ -0,0 +1,13 @@
+package com.albatime.calc.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 쓰기 지연 대기열이 가득 차 받지 않은 등록 요청 (503) - 잠시 후 재시도
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class WorkRecordQueueFullException extends RuntimeException {
+
+    public WorkRecordQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -1,9 +1,18 @@
 package com.albatime.calc.service;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 
+import com.albatime.calc.dto.DailySummaryDto;
 import com.albatime.calc.dto.MonthlySummaryDto;
+import com.albatime.calc.dto.ResourceVersion;
+import com.albatime.calc.dto.SummaryGranularity;
+import com.albatime.calc.dto.SummaryReportDto;
+import com.albatime.calc.dto.Versioned;
+import com.albatime.calc.dto.WorkRecordDeleteResultDto;
+import com.albatime.calc.dto.WorkRecordPageDto;
+import com.albatime.calc.dto.WorkRecordPatchDto;
 import com.albatime.calc.dto.WorkRecordRequestDto;
 import com.albatime.calc.dto.WorkRecordResponseDto;
 
@@ -11,17 +20,41 @@ public interface WorkRecordService {
 
     WorkRecordResponseDto createWorkRecord(WorkRecordRequestDto requestDto);
 
+    WorkRecordResponseDto createWorkRecord(Long userId, WorkRecordRequestDto requestDto);
+
+    List<WorkRecordResponseDto> createWorkRecords(List<WorkRecordRequestDto> requestDtos);
+
+    List<WorkRecordResponseDto> createWorkRecords(Long userId, List<WorkRecordRequestDto> requestDtos);
+
+    void validateWorkRecord(WorkRecordRequestDto requestDto);
+
     WorkRecordResponseDto getWorkRecord(Long id);
 
+    WorkRecordPageDto getWorkRecordPage(String cursor, Integer size);
+
     List<WorkRecordResponseDto> getAllWorkRecords();
 
     List<WorkRecordResponseDto> getWorkRecordsByDateRange(LocalDate startDate, LocalDate endDate);
 
-    List<WorkRecordResponseDto> getWorkRecordsByYearAndMonth(int year, int month);
+    // 월 목록/통계는 읽은 시점의 검증값(ETag)과 함께 반환
+    Versioned<List<WorkRecordResponseDto>> getWorkRecordsByYearAndMonth(int year, int month);
+
+    Versioned<MonthlySummaryDto> getMonthlySummary(int year, int month);
 
-    MonthlySummaryDto getMonthlySummary(int year, int month);
+    ResourceVersion getWorkRecordVersion(Long id);
+
+    ResourceVersion getDateRangeVersion(LocalDate startDate, LocalDate endDate);
+
+    SummaryReportDto getSummaryReport(YearMonth from, YearMonth to, SummaryGranularity granularity);
+
+    // fillEmptyDays면 근무가 없는 날도 0으로 채워 하루 한 행
+    List<DailySummaryDto> getDailySummaries(LocalDate startDate, LocalDate endDate, boolean fillEmptyDays);
 
     WorkRecordResponseDto updateWorkRecord(Long id, WorkRecordRequestDto requestDto);
 
-    void deleteWorkRecord(Long id);
+    WorkRecordResponseDto patchWorkRecord(Long id, Long version, WorkRecordPatchDto patchDto);
+
+    void deleteWorkRecord(Long id, Long version);
+
+    WorkRecordDeleteResultDto deleteWorkRecordsByDateRange(LocalDate startDate, LocalDate endDate);
 }
\ No newline at end of file
@@ -1,44 +1,105 @@
 package com.albatime.calc.service;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.albatime.auth.service.CurrentUserService;
+import com.albatime.calc.dto.DailyAggregateView;
+import com.albatime.calc.dto.DailySummaryDto;
 import com.albatime.calc.dto.MonthlySummaryDto;
+import com.albatime.calc.dto.PeriodAggregateView;
+import com.albatime.calc.dto.PeriodSummaryDto;
+import com.albatime.calc.dto.ResourceVersion;
+import com.albatime.calc.dto.SummaryGranularity;
+import com.albatime.calc.dto.SummaryReportDto;
+import com.albatime.calc.dto.SummaryRevision;
+import com.albatime.calc.dto.Versioned;
+import com.albatime.calc.dto.WorkRecordCursor;
+import com.albatime.calc.dto.WorkRecordDeleteResultDto;
+import com.albatime.calc.dto.WorkRecordPageDto;
+import com.albatime.calc.dto.WorkRecordPatchDto;
 import com.albatime.calc.dto.WorkRecordRequestDto;
 import com.albatime.calc.dto.WorkRecordResponseDto;
 import com.albatime.calc.entity.WorkRecord;
+import com.albatime.calc.repository.WorkRecordBatchRepository;
+import com.albatime.calc.repository.WorkRecordPatchRepository;
 import com.albatime.calc.repository.WorkRecordRepository;
+import com.albatime.config.CacheConfig;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
+@Timed("albatime.service")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class WorkRecordServiceImpl implements WorkRecordService {
 
     private final WorkRecordRepository workRecordRepository;
+    private final WorkRecordBatchRepository workRecordBatchRepository;
+    private final WorkRecordPatchRepository workRecordPatchRepository;
+    private final MonthlySummaryRollupService monthlySummaryRollupService;
+    private final CurrentUserService currentUserService;
+    private final ObjectProvider<HotMonthStore> hotMonthStore;
+    private final CacheManager cacheManager;
+    private final Validator validator;
+
+    @Value("${albatime.work-records.page.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${albatime.work-records.page.max-size:500}")
+    private int maxPageSize;
+
+    @Value("${albatime.work-records.batch.max-items:1000}")
+    private int maxBatchItems;
+
+    @Value("${albatime.summary.max-months:60}")
+    private int maxSummaryMonths;
+
+    @Value("${albatime.summary.max-days:366}")
+    private int maxDailyDays;
 
     @Override
     @Transactional
     public WorkRecordResponseDto createWorkRecord(WorkRecordRequestDto requestDto) {
+        return createWorkRecord(currentUserService.getCurrentUserId(), requestDto);
+    }
+
+    // 요청 스레드 밖(쓰기 지연 배치)에서 저장할 때는 요청 시점에 확인한 사용자 ID로 저장
+    @Override
+    @Transactional
+    public WorkRecordResponseDto createWorkRecord(Long userId, WorkRecordRequestDto requestDto) {
         try {
-            validateWorkTime(requestDto.getStartTime().toString(), requestDto.getEndTime().toString());
+            validateWorkTime(requestDto.getStartTime(), requestDto.getEndTime());
             
-            WorkRecord workRecord = WorkRecord.builder()
-                    .workDate(requestDto.getWorkDate())
-                    .startTime(requestDto.getStartTime())
-                    .endTime(requestDto.getEndTime())
-                    .hourlyWage(requestDto.getHourlyWage())
-                    .memo(requestDto.getMemo())
-                    .build();
+            WorkRecord workRecord = toEntity(userId, requestDto);
 
             WorkRecord savedWorkRecord = workRecordRepository.save(workRecord);
+            monthlySummaryRollupService.add(savedWorkRecord);
+            evictMonth(userId, savedWorkRecord.getWorkDate());
             log.info("근무 기록 생성 완료 - ID: {}, 날짜: {}", savedWorkRecord.getId(), savedWorkRecord.getWorkDate());
             
             return WorkRecordResponseDto.from(savedWorkRecord);
@@ -51,26 +112,115 @@ public class WorkRecordServiceImpl implements WorkRecordService {
         }
     }
 
+    @Override
+    @Transactional
+    public List<WorkRecordResponseDto> createWorkRecords(List<WorkRecordRequestDto> requestDtos) {
+        return createWorkRecords(currentUserService.getCurrentUserId(), requestDtos);
+    }
+
+    @Override
+    @Transactional
+    public List<WorkRecordResponseDto> createWorkRecords(Long userId, List<WorkRecordRequestDto> requestDtos) {
+        try {
+            // 전체 검증 후 저장 - 한 건이라도 실패하면 아무것도 저장하지 않음
+            validateBatch(requestDtos);
+
+            LocalDateTime now = LocalDateTime.now();
+            List<WorkRecord> workRecords = new ArrayList<>(requestDtos.size());
+            for (WorkRecordRequestDto requestDto : requestDtos) {
+                WorkRecord workRecord = toEntity(userId, requestDto);
+                workRecord.setCreatedAt(now);
+                workRecord.setUpdatedAt(now);
+                workRecords.add(workRecord);
+            }
+
+            workRecordBatchRepository.insertAll(workRecords);
+            monthlySummaryRollupService.addAll(workRecords);
+            workRecords.stream()
+                    .map(WorkRecord::getWorkDate)
+                    .map(YearMonth::from)
+                    .distinct()
+                    .forEach(month -> evictMonth(userId, month));
+            log.info("근무 기록 일괄 생성 완료 - 총 {}건", workRecords.size());
+
+            return workRecords.stream()
+                    .map(WorkRecordResponseDto::from)
+                    .collect(Collectors.toList());
+        } catch (IllegalArgumentException e) {
+            log.error("근무 기록 일괄 생성 실패: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("근무 기록 일괄 생성 중 오류 발생", e);
+            throw new RuntimeException("근무 기록 일괄 생성에 실패했습니다.", e);
+        }
+    }
+
+    // 저장 전 단건 검증 - 쓰기 지연 모드에서 대기열에 넣기 전에 요청별로 실패를 돌려주기 위함
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void validateWorkRecord(WorkRecordRequestDto requestDto) {
+        List<String> errors = collectErrors(requestDto);
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException(String.join(", ", errors));
+        }
+    }
+
     @Override
     public WorkRecordResponseDto getWorkRecord(Long id) {
+        Long userId = currentUserService.getCurrentUserId();
         try {
-            WorkRecord workRecord = findWorkRecordById(id);
-            return WorkRecordResponseDto.from(workRecord);
+            return workRecordRepository.findDtoById(userId, id)
+                    .orElseThrow(() -> new WorkRecordNotFoundException(id));
         } catch (IllegalArgumentException e) {
             log.error("근무 기록 조회 실패 - ID: {}", id);
             throw e;
         }
     }
 
+    @Override
+    public WorkRecordPageDto getWorkRecordPage(String cursor, Integer size) {
+        Long userId = currentUserService.getCurrentUserId();
+        try {
+            int pageSize = resolvePageSize(size);
+            // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+            Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+            List<WorkRecordResponseDto> workRecords;
+            if (cursor == null || cursor.isBlank()) {
+                workRecords = workRecordRepository.findFirstPage(userId, pageable);
+            } else {
+                WorkRecordCursor after = WorkRecordCursor.decode(cursor);
+                workRecords = workRecordRepository.findPageAfter(userId, after.getWorkDate(), after.getId(), pageable);
+            }
+
+            boolean hasNext = workRecords.size() > pageSize;
+            List<WorkRecordResponseDto> content = hasNext ? workRecords.subList(0, pageSize) : workRecords;
+            String nextCursor = hasNext ? WorkRecordCursor.of(content.get(content.size() - 1)).encode() : null;
+
+            log.debug("근무 기록 페이지 조회 완료 - {}건, 다음 페이지: {}", content.size(), hasNext);
+
+            return WorkRecordPageDto.builder()
+                    .content(content)
+                    .size(content.size())
+                    .nextCursor(nextCursor)
+                    .build();
+        } catch (IllegalArgumentException e) {
+            log.error("근무 기록 페이지 조회 실패: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("근무 기록 페이지 조회 중 오류 발생", e);
+            throw new RuntimeException("근무 기록 조회에 실패했습니다.", e);
+        }
+    }
+
     @Override
     public List<WorkRecordResponseDto> getAllWorkRecords() {
+        Long userId = currentUserService.getCurrentUserId();
         try {
-            List<WorkRecord> workRecords = workRecordRepository.findAll();
-            log.info("전체 근무 기록 조회 완료 - 총 {}건", workRecords.size());
+            List<WorkRecordResponseDto> workRecords = workRecordRepository.findAllDtos(userId);
+            log.debug("전체 근무 기록 조회 완료 - 총 {}건", workRecords.size());
             
-            return workRecords.stream()
-                    .map(WorkRecordResponseDto::from)
-                    .collect(Collectors.toList());
+            return workRecords;
         } catch (Exception e) {
             log.error("전체 근무 기록 조회 중 오류 발생", e);
             throw new RuntimeException("근무 기록 조회에 실패했습니다.", e);
@@ -79,15 +229,15 @@ public class WorkRecordServiceImpl implements WorkRecordService {
 
     @Override
     public List<WorkRecordResponseDto> getWorkRecordsByDateRange(LocalDate startDate, LocalDate endDate) {
+        Long userId = currentUserService.getCurrentUserId();
         try {
             validateDateRange(startDate, endDate);
             
-            List<WorkRecord> workRecords = workRecordRepository.findByWorkDateBetweenOrderByWorkDateAsc(startDate, endDate);
-            log.info("날짜 범위 조회 완료 - {}~{}, 총 {}건", startDate, endDate, workRecords.size());
+            List<WorkRecordResponseDto> workRecords = findHotRange(userId, startDate, endDate.plusDays(1))
+                    .orElseGet(() -> workRecordRepository.findDtosByWorkDateRange(userId, startDate, endDate.plusDays(1)));
+            log.debug("날짜 범위 조회 완료 - {}~{}, 총 {}건", startDate, endDate, workRecords.size());
             
-            return workRecords.stream()
-                    .map(WorkRecordResponseDto::from)
-                    .collect(Collectors.toList());
+            return workRecords;
         } catch (IllegalArgumentException e) {
             log.error("날짜 범위 조회 실패: {}", e.getMessage());
             throw e;
@@ -98,16 +248,21 @@ public class WorkRecordServiceImpl implements WorkRecordService {
     }
 
     @Override
-    public List<WorkRecordResponseDto> getWorkRecordsByYearAndMonth(int year, int month) {
+    public Versioned<List<WorkRecordResponseDto>> getWorkRecordsByYearAndMonth(int year, int month) {
+        Long userId = currentUserService.getCurrentUserId();
         try {
             validateYearAndMonth(year, month);
             
-            List<WorkRecord> workRecords = workRecordRepository.findByYearAndMonth(year, month);
-            log.info("월별 근무 기록 조회 완료 - {}년 {}월, 총 {}건", year, month, workRecords.size());
+            YearMonth yearMonth = YearMonth.of(year, month);
+            Versioned<List<WorkRecordResponseDto>> workRecords = cachedMonth(CacheConfig.MONTHLY_RECORDS, userId, yearMonth, () -> {
+                HotMonthStore store = hotMonthStore.getIfAvailable();
+                return store != null
+                        ? store.findMonth(userId, yearMonth)
+                        : workRecordRepository.findDtosByYearMonth(userId, yearMonth);
+            });
+            log.debug("월별 근무 기록 조회 완료 - {}년 {}월, 총 {}건", year, month, workRecords.getBody().size());
             
-            return workRecords.stream()
-                    .map(WorkRecordResponseDto::from)
-                    .collect(Collectors.toList());
+            return workRecords;
         } catch (IllegalArgumentException e) {
             log.error("월별 조회 실패: {}", e.getMessage());
             throw e;
@@ -118,35 +273,23 @@ public class WorkRecordServiceImpl implements WorkRecordService {
     }
 
     @Override
-    public MonthlySummaryDto getMonthlySummary(int year, int month) {
+    public Versioned<MonthlySummaryDto> getMonthlySummary(int year, int month) {
+        Long userId = currentUserService.getCurrentUserId();
         try {
             validateYearAndMonth(year, month);
             
-            List<WorkRecord> workRecords = workRecordRepository.findByYearAndMonth(year, month);
-
-            int workDays = workRecords.size();
-            double totalWorkHours = workRecords.stream()
-                    .mapToDouble(WorkRecord::calculateWorkHours)
-                    .sum();
-            int totalWage = workRecords.stream()
-                    .mapToInt(WorkRecord::calculateTotalWage)
-                    .sum();
-            int averageHourlyWage = workRecords.isEmpty() ? 0 :
-                    (int) workRecords.stream()
-                            .mapToInt(WorkRecord::getHourlyWage)
-                            .average()
-                            .orElse(0);
-
-            log.info("월별 통계 조회 완료 - {}년 {}월, 근무일수: {}일, 총급여: {}원", year, month, workDays, totalWage);
-
-            return MonthlySummaryDto.builder()
-                    .year(year)
-                    .month(month)
-                    .workDays(workDays)
-                    .totalWorkHours(totalWorkHours)
-                    .totalWage(totalWage)
-                    .averageHourlyWage(averageHourlyWage)
-                    .build();
+            // 메모리 저장소가 켜져 있으면 적재된 달의 합계, 아니면 월별 통계 테이블 PK 조회
+            Versioned<MonthlySummaryDto> summary = cachedMonth(CacheConfig.MONTHLY_SUMMARY, userId, YearMonth.of(year, month), () -> {
+                HotMonthStore store = hotMonthStore.getIfAvailable();
+                return store != null
+                        ? store.getSummary(userId, year, month)
+                        : monthlySummaryRollupService.getSummary(userId, year, month);
+            });
+
+            log.debug("월별 통계 조회 완료 - {}년 {}월, 근무일수: {}일, 총급여: {}원",
+                    year, month, summary.getBody().getWorkDays(), summary.getBody().getTotalWage());
+
+            return summary;
         } catch (IllegalArgumentException e) {
             log.error("월별 통계 조회 실패: {}", e.getMessage());
             throw e;
@@ -156,19 +299,140 @@ public class WorkRecordServiceImpl implements WorkRecordService {
         }
     }
 
+    // 조건부 GET 검증값 - 근무 기록/목록을 읽지 않고 수정 시간 또는 월별 통계 변경 번호만 조회
+    @Override
+    public ResourceVersion getWorkRecordVersion(Long id) {
+        LocalDateTime updatedAt = workRecordRepository.findUpdatedAtById(currentUserService.getCurrentUserId(), id)
+                .orElseThrow(() -> new WorkRecordNotFoundException(id));
+        return ResourceVersion.of("r" + id + "-" + updatedAt, updatedAt);
+    }
+
+    @Override
+    public ResourceVersion getDateRangeVersion(LocalDate startDate, LocalDate endDate) {
+        validateDateRange(startDate, endDate);
+        // 변경 번호는 달 단위 - 구간에 걸친 달 중 하나라도 바뀌면 ETag가 달라짐
+        SummaryRevision revision = monthlySummaryRollupService.getRevision(
+                currentUserService.getCurrentUserId(), YearMonth.from(startDate), YearMonth.from(endDate));
+        return toResourceVersion("d" + startDate + "_" + endDate, revision);
+    }
+
+    @Override
+    public SummaryReportDto getSummaryReport(YearMonth from, YearMonth to, SummaryGranularity granularity) {
+        Long userId = currentUserService.getCurrentUserId();
+        try {
+            validateMonthRange(from, to);
+
+            LocalDate startDate = from.atDay(1);
+            LocalDate endDate = to.plusMonths(1).atDay(1);
+            // 달마다 조회하지 않고 GROUP BY 한 번으로 기간별 집계
+            List<PeriodAggregateView> aggregates = granularity == SummaryGranularity.WEEK
+                    ? workRecordRepository.summarizeByWeek(userId, startDate, endDate)
+                    : workRecordRepository.summarizeByMonth(userId, startDate, endDate);
+
+            List<PeriodSummaryDto> periods = new ArrayList<>(aggregates.size());
+            long recordCount = 0;
+            long totalMinutes = 0;
+            long totalWage = 0;
+            long hourlyWageSum = 0;
+            LocalDate lastDate = to.atEndOfMonth();
+            for (PeriodAggregateView aggregate : aggregates) {
+                // 첫 주/마지막 주는 조회 구간 밖으로 걸칠 수 있으므로 구간 안으로 자름 (합계는 이미 구간 안의 기록만)
+                LocalDate bucketStart = aggregate.getPeriodStart();
+                LocalDate bucketEnd = granularity == SummaryGranularity.WEEK
+                        ? bucketStart.plusDays(6)
+                        : YearMonth.from(bucketStart).atEndOfMonth();
+                LocalDate periodStart = bucketStart.isBefore(startDate) ? startDate : bucketStart;
+                LocalDate periodEnd = bucketEnd.isAfter(lastDate) ? lastDate : bucketEnd;
+                periods.add(PeriodSummaryDto.of(periodStart, periodEnd, aggregate.getRecordCount(),
+                        aggregate.getTotalMinutes(), aggregate.getTotalWage(), aggregate.getHourlyWageSum()));
+
+                recordCount += aggregate.getRecordCount();
+                totalMinutes += aggregate.getTotalMinutes();
+                totalWage += aggregate.getTotalWage();
+                hourlyWageSum += aggregate.getHourlyWageSum();
+            }
+
+            log.debug("기간 통계 조회 완료 - {}~{}, 단위: {}, {}개 기간", from, to, granularity, periods.size());
+
+            return SummaryReportDto.builder()
+                    .from(from)
+                    .to(to)
+                    .granularity(granularity)
+                    .periods(periods)
+                    .total(PeriodSummaryDto.of(startDate, lastDate, recordCount, totalMinutes, totalWage, hourlyWageSum))
+                    .build();
+        } catch (IllegalArgumentException e) {
+            log.error("기간 통계 조회 실패: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("기간 통계 조회 중 오류 발생", e);
+            throw new RuntimeException("기간 통계 조회에 실패했습니다.", e);
+        }
+    }
+
+    @Override
+    public List<DailySummaryDto> getDailySummaries(LocalDate startDate, LocalDate endDate, boolean fillEmptyDays) {
+        Long userId = currentUserService.getCurrentUserId();
+        try {
+            validateDateRange(startDate, endDate);
+            if (startDate.plusDays(maxDailyDays).isBefore(endDate.plusDays(1))) {
+                throw new IllegalArgumentException("날짜별 통계 조회 기간은 최대 " + maxDailyDays + "일입니다.");
+            }
+
+            // 근무 기록을 읽지 않고 GROUP BY work_date 한 번으로 날짜별 합계
+            List<DailyAggregateView> aggregates = workRecordRepository.summarizeByDay(userId, startDate, endDate.plusDays(1));
+
+            List<DailySummaryDto> days;
+            if (fillEmptyDays) {
+                // 집계 결과가 날짜 순이므로 한 번 훑으면서 빈 날 채움
+                days = new ArrayList<>((int) ChronoUnit.DAYS.between(startDate, endDate) + 1);
+                int next = 0;
+                for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                    if (next < aggregates.size() && aggregates.get(next).getWorkDate().equals(date)) {
+                        days.add(DailySummaryDto.of(aggregates.get(next++)));
+                    } else {
+                        days.add(DailySummaryDto.empty(date));
+                    }
+                }
+            } else {
+                days = new ArrayList<>(aggregates.size());
+                for (DailyAggregateView aggregate : aggregates) {
+                    days.add(DailySummaryDto.of(aggregate));
+                }
+            }
+
+            log.debug("날짜별 통계 조회 완료 - {}~{}, 근무일 {}일, {}행", startDate, endDate, aggregates.size(), days.size());
+
+            return days;
+        } catch (IllegalArgumentException e) {
+            log.error("날짜별 통계 조회 실패: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("날짜별 통계 조회 중 오류 발생", e);
+            throw new RuntimeException("날짜별 통계 조회에 실패했습니다.", e);
+        }
+    }
+
     @Override
     @Transactional
     public WorkRecordResponseDto updateWorkRecord(Long id, WorkRecordRequestDto requestDto) {
+        Long userId = currentUserService.getCurrentUserId();
         try {
-            validateWorkTime(requestDto.getStartTime().toString(), requestDto.getEndTime().toString());
+            validateWorkTime(requestDto.getStartTime(), requestDto.getEndTime());
             
-            WorkRecord workRecord = findWorkRecordById(id);
+            WorkRecord workRecord = findWorkRecordById(userId, id);
+            // 변경 전 값을 기존 달 통계에서 빼고, 변경 후 값을 (달이 바뀌었으면 새 달) 통계에 더함
+            monthlySummaryRollupService.remove(workRecord);
+            evictMonth(userId, workRecord.getWorkDate());
 
             workRecord.setWorkDate(requestDto.getWorkDate());
             workRecord.setStartTime(requestDto.getStartTime());
             workRecord.setEndTime(requestDto.getEndTime());
             workRecord.setHourlyWage(requestDto.getHourlyWage());
             workRecord.setMemo(requestDto.getMemo());
+            workRecord.applyDerivedColumns();
+            monthlySummaryRollupService.add(workRecord);
+            evictMonth(userId, workRecord.getWorkDate());
 
             log.info("근무 기록 수정 완료 - ID: {}", id);
             
@@ -182,18 +446,54 @@ public class WorkRecordServiceImpl implements WorkRecordService {
         }
     }
 
+    // 기존 행을 읽지 않고 바뀐 필드만 UPDATE - 통계 증감도 SQL 안에서 반영
     @Override
     @Transactional
-    public void deleteWorkRecord(Long id) {
+    public WorkRecordResponseDto patchWorkRecord(Long id, Long version, WorkRecordPatchDto patchDto) {
+        Long userId = currentUserService.getCurrentUserId();
         try {
-            if (!workRecordRepository.existsById(id)) {
-                throw new IllegalArgumentException("근무 기록을 찾을 수 없습니다. ID: " + id);
+            validatePatch(patchDto);
+
+            // 통계에서 현재 행을 뺀 뒤 UPDATE - 변경 전/후 달의 변경 번호가 올라가므로 월 캐시/메모리 저장소는 다음 조회에서 다시 읽음
+            monthlySummaryRollupService.removeById(userId, id, version);
+            if (workRecordPatchRepository.patch(userId, id, version, patchDto, LocalDateTime.now()) == 0) {
+                checkWritable(userId, id, version);
+                // 없는 ID/버전 충돌이 아니면 저장된 시간과 같아지는 변경 (UPDATE 조건)
+                throw new WorkRecordPatchRejectedException(id);
+            }
+            monthlySummaryRollupService.addById(userId, id);
+
+            WorkRecordResponseDto patched = workRecordRepository.findDtoById(userId, id)
+                    .orElseThrow(() -> new WorkRecordNotFoundException(id));
+            evictMonth(userId, patched.getWorkDate());
+
+            log.info("근무 기록 부분 수정 완료 - ID: {}", id);
+
+            return patched;
+        } catch (IllegalArgumentException | WorkRecordConflictException e) {
+            log.error("근무 기록 부분 수정 실패 - ID: {}, 이유: {}", id, e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("근무 기록 부분 수정 중 오류 발생", e);
+            throw new RuntimeException("근무 기록 수정에 실패했습니다.", e);
+        }
+    }
+
+    // 조회 없이 DELETE 한 문장 - 삭제된 행이 없을 때만 원인(404/409) 확인
+    @Override
+    @Transactional
+    public void deleteWorkRecord(Long id, Long version) {
+        Long userId = currentUserService.getCurrentUserId();
+        try {
+            // 통계 차감으로 해당 달의 변경 번호가 올라가므로 월 캐시/메모리 저장소는 따로 무효화하지 않음
+            monthlySummaryRollupService.removeById(userId, id, version);
+            if (workRecordRepository.deleteByIdIfVersion(userId, id, version) == 0) {
+                checkWritable(userId, id, version);
+                throw new WorkRecordConflictException(id, version);
             }
-            
-            workRecordRepository.deleteById(id);
             log.info("근무 기록 삭제 완료 - ID: {}", id);
-        } catch (IllegalArgumentException e) {
-            log.error("근무 기록 삭제 실패 - ID: {}", id);
+        } catch (IllegalArgumentException | WorkRecordConflictException e) {
+            log.error("근무 기록 삭제 실패 - ID: {}, 이유: {}", id, e.getMessage());
             throw e;
         } catch (Exception e) {
             log.error("근무 기록 삭제 중 오류 발생", e);
@@ -201,17 +501,168 @@ public class WorkRecordServiceImpl implements WorkRecordService {
         }
     }
 
+    // 기간 일괄 삭제 (양 끝 포함) - 통계 차감 후 DELETE 한 문장
+    @Override
+    @Transactional
+    public WorkRecordDeleteResultDto deleteWorkRecordsByDateRange(LocalDate startDate, LocalDate endDate) {
+        Long userId = currentUserService.getCurrentUserId();
+        try {
+            validateDateRange(startDate, endDate);
+
+            monthlySummaryRollupService.removeRange(userId, startDate, endDate.plusDays(1));
+            int deletedCount = workRecordRepository.deleteByWorkDateRange(userId, startDate, endDate.plusDays(1));
+            for (YearMonth month = YearMonth.from(startDate); !month.isAfter(YearMonth.from(endDate)); month = month.plusMonths(1)) {
+                evictMonth(userId, month);
+            }
+            log.info("근무 기록 기간 삭제 완료 - {}~{}, 총 {}건", startDate, endDate, deletedCount);
+
+            return WorkRecordDeleteResultDto.builder()
+                    .from(startDate)
+                    .to(endDate)
+                    .deletedCount(deletedCount)
+                    .build();
+        } catch (IllegalArgumentException e) {
+            log.error("근무 기록 기간 삭제 실패: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("근무 기록 기간 삭제 중 오류 발생", e);
+            throw new RuntimeException("근무 기록 삭제에 실패했습니다.", e);
+        }
+    }
+
     // === Private Helper Methods ===
 
-    private WorkRecord findWorkRecordById(Long id) {
-        return workRecordRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("근무 기록을 찾을 수 없습니다. ID: " + id));
+    private WorkRecord toEntity(Long userId, WorkRecordRequestDto requestDto) {
+        WorkRecord workRecord = WorkRecord.builder()
+                .userId(userId)
+                .workDate(requestDto.getWorkDate())
+                .startTime(requestDto.getStartTime())
+                .endTime(requestDto.getEndTime())
+                .hourlyWage(requestDto.getHourlyWage())
+                .memo(requestDto.getMemo())
+                .build();
+        workRecord.applyDerivedColumns();
+        return workRecord;
+    }
+
+    private WorkRecord findWorkRecordById(Long userId, Long id) {
+        return workRecordRepository.findByIdAndUserId(id, userId)
+                .orElseThrow(() -> new WorkRecordNotFoundException(id));
+    }
+
+    // 월 캐시 - 값과 그 값을 읽은 시점의 검증값(월별 통계 변경 번호)을 함께 보관
+    // 같은 트랜잭션에서 읽은 변경 번호가 다르면 다시 조회하고, 응답 ETag도 이 검증값을 쓰므로 본문과 ETag가 항상 같은 스냅샷
+    @SuppressWarnings("unchecked")
+    private <T> Versioned<T> cachedMonth(String cacheName, Long userId, YearMonth yearMonth, Supplier<T> loader) {
+        ResourceVersion version = toResourceVersion("m" + yearMonth,
+                monthlySummaryRollupService.getRevision(userId, yearMonth, yearMonth));
+        Cache cache = cacheManager.getCache(cacheName);
+        String key = CacheConfig.monthKey(userId, yearMonth.getYear(), yearMonth.getMonthValue());
+        Versioned<T> cached = cache != null ? cache.get(key, Versioned.class) : null;
+        if (cached != null && cached.getVersion().getEtag().equals(version.getEtag())) {
+            return cached;
+        }
+
+        Versioned<T> loaded = new Versioned<>(loader.get(), version);
+        if (cache != null) {
+            cache.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    // 사용자의 해당 달 목록/통계 캐시 무효화 (트랜잭션 커밋 후 적용) - 변경 번호 확인으로도 걸러지지만 바뀐 달은 바로 비움
+    private void evictMonth(Long userId, LocalDate workDate) {
+        evictMonth(userId, YearMonth.from(workDate));
+    }
+
+    private void evictMonth(Long userId, YearMonth yearMonth) {
+        String key = CacheConfig.monthKey(userId, yearMonth.getYear(), yearMonth.getMonthValue());
+        for (String cacheName : new String[] {CacheConfig.MONTHLY_RECORDS, CacheConfig.MONTHLY_SUMMARY}) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.evict(key);
+            }
+        }
+    }
+
+    // 메모리 저장소가 꺼져 있거나 구간이 길면 비어 있음 (DB에서 조회)
+    private Optional<List<WorkRecordResponseDto>> findHotRange(Long userId, LocalDate startDate, LocalDate endDate) {
+        HotMonthStore store = hotMonthStore.getIfAvailable();
+        return store != null ? store.findRange(userId, startDate, endDate) : Optional.empty();
+    }
+
+    // 반영된 행이 없을 때 원인 확인 - 없는 ID는 404, 버전이 다르면 409
+    private void checkWritable(Long userId, Long id, Long version) {
+        Long currentVersion = workRecordRepository.findVersionById(userId, id)
+                .orElseThrow(() -> new WorkRecordNotFoundException(id));
+        if (version != null && !version.equals(currentVersion)) {
+            throw new WorkRecordConflictException(id, version);
+        }
+    }
+
+    private void validatePatch(WorkRecordPatchDto patchDto) {
+        if (patchDto == null || !patchDto.hasChanges()) {
+            throw new IllegalArgumentException("수정할 항목이 없습니다.");
+        }
+        Set<ConstraintViolation<WorkRecordPatchDto>> violations = validator.validate(patchDto);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .collect(Collectors.joining(", ")));
+        }
+        if (patchDto.getStartTime() != null && patchDto.getEndTime() != null) {
+            validateWorkTime(patchDto.getStartTime(), patchDto.getEndTime());
+        }
+    }
+
+    // 종료 시간이 시작 시간보다 이르면 자정을 넘기는 근무로 허용
+    private void validateWorkTime(LocalTime startTime, LocalTime endTime) {
+        if (startTime.equals(endTime)) {
+            throw new IllegalArgumentException("종료 시간은 시작 시간과 같을 수 없습니다.");
+        }
     }
 
-    private void validateWorkTime(String startTime, String endTime) {
-        if (startTime.compareTo(endTime) >= 0) {
-            throw new IllegalArgumentException("종료 시간은 시작 시간보다 늦어야 합니다.");
+    private void validateBatch(List<WorkRecordRequestDto> requestDtos) {
+        if (requestDtos == null || requestDtos.isEmpty()) {
+            throw new IllegalArgumentException("등록할 근무 기록이 없습니다.");
+        }
+        if (requestDtos.size() > maxBatchItems) {
+            throw new IllegalArgumentException("한 번에 등록할 수 있는 근무 기록은 최대 " + maxBatchItems + "건입니다.");
+        }
+
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < requestDtos.size(); i++) {
+            for (String error : collectErrors(requestDtos.get(i))) {
+                errors.add("[" + i + "] " + error);
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException(String.join(", ", errors));
+        }
+    }
+
+    private List<String> collectErrors(WorkRecordRequestDto requestDto) {
+        if (requestDto == null) {
+            return List.of("근무 기록이 비어 있습니다.");
+        }
+        List<String> errors = new ArrayList<>();
+        Set<ConstraintViolation<WorkRecordRequestDto>> violations = validator.validate(requestDto);
+        for (ConstraintViolation<WorkRecordRequestDto> violation : violations) {
+            errors.add(violation.getMessage());
+        }
+        if (violations.isEmpty()) {
+            try {
+                validateWorkTime(requestDto.getStartTime(), requestDto.getEndTime());
+            } catch (IllegalArgumentException e) {
+                errors.add(e.getMessage());
+            }
         }
+        return errors;
+    }
+
+    private ResourceVersion toResourceVersion(String prefix, SummaryRevision revision) {
+        long revisionSum = revision.getRevisionSum() != null ? revision.getRevisionSum() : 0;
+        return ResourceVersion.of(prefix + "-" + revisionSum, revision.getLastModified());
     }
 
     private void validateDateRange(LocalDate startDate, LocalDate endDate) {
@@ -220,6 +671,27 @@ public class WorkRecordServiceImpl implements WorkRecordService {
         }
     }
 
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다: " + size);
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    private void validateMonthRange(YearMonth from, YearMonth to) {
+        validateYearAndMonth(from.getYear(), from.getMonthValue());
+        validateYearAndMonth(to.getYear(), to.getMonthValue());
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작 월은 종료 월보다 이전이어야 합니다.");
+        }
+        if (from.plusMonths(maxSummaryMonths).isBefore(to.plusMonths(1))) {
+            throw new IllegalArgumentException("통계 조회 기간은 최대 " + maxSummaryMonths + "개월입니다.");
+        }
+    }
+
     private void validateYearAndMonth(int year, int month) {
         if (year < 1900 || year > 2100) {
             throw new IllegalArgumentException("유효하지 않은 연도입니다: " + year);
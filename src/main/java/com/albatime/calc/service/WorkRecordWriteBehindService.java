@@ -0,0 +1,13 @@
+package com.albatime.calc.service;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.albatime.calc.dto.WorkRecordRequestDto;
+import com.albatime.calc.dto.WorkRecordResponseDto;
+
+public interface WorkRecordWriteBehindService {
+
+    // 검증 실패는 IllegalArgumentException, 대기열이 가득 차면 WorkRecordQueueFullException을 바로 던짐
+    // 반환된 future는 요청이 포함된 배치가 커밋된 뒤 완료
+    CompletableFuture<WorkRecordResponseDto> submit(WorkRecordRequestDto requestDto);
+}
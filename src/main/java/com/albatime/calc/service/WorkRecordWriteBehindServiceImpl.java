@@ -0,0 +1,215 @@
+package com.albatime.calc.service;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.albatime.auth.service.CurrentUserService;
+import com.albatime.calc.dto.WorkRecordRequestDto;
+import com.albatime.calc.dto.WorkRecordResponseDto;
+import com.albatime.config.ReadWriteRoutingDataSource;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// 단건 등록 쓰기 지연 - 요청을 대기열에 모았다가 전용 스레드가 배치 크기/대기 시간 단위로 한 트랜잭션에 저장 (group commit)
+// 요청은 자기 배치가 커밋된 뒤에 응답하므로 응답을 받은 기록은 이미 저장된 상태
+// 저장 스레드에는 인증 정보가 없으므로 replica 사용 시 커밋 후 요청한 사용자를 직접 최근 쓰기 사용자로 표시
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "albatime.work-records.write-behind.enabled", havingValue = "true")
+public class WorkRecordWriteBehindServiceImpl implements WorkRecordWriteBehindService, DisposableBean {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final WorkRecordService workRecordService;
+    private final CurrentUserService currentUserService;
+    private final TransactionTemplate transactionTemplate;
+    private final ReadWriteRoutingDataSource routingDataSource;  // replica를 쓰지 않으면 null
+    private final BlockingQueue<PendingCreate> queue;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final long shutdownTimeoutMillis;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    private final LongAdder rejected = new LongAdder();
+    private final DistributionSummary batchSizes;
+
+    public WorkRecordWriteBehindServiceImpl(WorkRecordService workRecordService,
+                                            CurrentUserService currentUserService,
+                                            TransactionTemplate transactionTemplate,
+                                            DataSource dataSource,
+                                            MeterRegistry meterRegistry,
+                                            @Value("${albatime.work-records.write-behind.queue-capacity:2000}") int queueCapacity,
+                                            @Value("${albatime.work-records.write-behind.max-batch-size:200}") int maxBatchSize,
+                                            @Value("${albatime.work-records.write-behind.max-wait:5ms}") Duration maxWait,
+                                            @Value("${albatime.work-records.write-behind.shutdown-timeout:10s}") Duration shutdownTimeout)
+            throws SQLException {
+        this.workRecordService = workRecordService;
+        this.currentUserService = currentUserService;
+        this.transactionTemplate = transactionTemplate;
+        this.routingDataSource = dataSource.isWrapperFor(ReadWriteRoutingDataSource.class)
+                ? dataSource.unwrap(ReadWriteRoutingDataSource.class)
+                : null;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.shutdownTimeoutMillis = shutdownTimeout.toMillis();
+
+        this.batchSizes = DistributionSummary.builder("albatime.work-records.write-behind.batch.size")
+                .description("한 번에 커밋한 근무 기록 수")
+                .register(meterRegistry);
+        Gauge.builder("albatime.work-records.write-behind.queue.depth", queue, BlockingQueue::size)
+                .description("커밋 대기 중인 근무 기록 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("albatime.work-records.write-behind.rejected", rejected, LongAdder::sum)
+                .description("대기열이 가득 차 거절한 등록 요청 수")
+                .register(meterRegistry);
+
+        this.writer = new Thread(this::runWriter, "work-record-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public CompletableFuture<WorkRecordResponseDto> submit(WorkRecordRequestDto requestDto) {
+        workRecordService.validateWorkRecord(requestDto);
+
+        // 저장은 다른 스레드에서 하므로 소유자는 요청 스레드에서 미리 확인
+        Long userId = currentUserService.getCurrentUserId();
+        PendingCreate pending = new PendingCreate(userId, currentUserService.getCurrentUsername(), requestDto, new CompletableFuture<>());
+        if (!running || !queue.offer(pending)) {
+            rejected.increment();
+            throw new WorkRecordQueueFullException("근무 기록 등록 요청이 많아 잠시 후 다시 시도해 주세요.");
+        }
+        return pending.result();
+    }
+
+    // 종료 시 새 요청은 받지 않고, 이미 받은 요청은 저장한 뒤 종료
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        writer.join(shutdownTimeoutMillis);
+
+        List<PendingCreate> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            log.warn("종료 시간 초과로 저장하지 못한 근무 기록 등록 요청 - {}건", remaining.size());
+            remaining.forEach(pending -> pending.result().completeExceptionally(
+                    new WorkRecordQueueFullException("서버 종료로 근무 기록을 저장하지 못했습니다.")));
+        }
+    }
+
+    private void runWriter() {
+        List<PendingCreate> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                if (collectBatch(batch)) {
+                    commit(batch);
+                }
+            } catch (Exception e) {
+                // 배치 처리 중 예상하지 못한 오류로 스레드가 멈추지 않도록 해당 배치만 실패 처리
+                log.error("근무 기록 배치 저장 스레드 오류", e);
+                batch.forEach(pending -> pending.result().completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 첫 요청을 받은 뒤 최대 maxWait 동안 maxBatchSize까지 모음 - 이미 쌓인 요청은 기다리지 않고 바로 가져옴
+    private boolean collectBatch(List<PendingCreate> batch) throws InterruptedException {
+        PendingCreate first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return false;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + maxWaitNanos;
+        while (batch.size() < maxBatchSize) {
+            if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            PendingCreate next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return true;
+    }
+
+    // 배치는 사용자별로 나눠 저장하되 전체를 한 트랜잭션으로 커밋
+    private void commit(List<PendingCreate> batch) {
+        batchSizes.record(batch.size());
+        Map<Long, List<PendingCreate>> byUser = new LinkedHashMap<>();
+        for (PendingCreate pending : batch) {
+            byUser.computeIfAbsent(pending.userId(), userId -> new ArrayList<>()).add(pending);
+        }
+
+        Map<PendingCreate, WorkRecordResponseDto> created = new LinkedHashMap<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> byUser.forEach((userId, pendings) -> {
+                List<WorkRecordResponseDto> saved = workRecordService.createWorkRecords(userId,
+                        pendings.stream().map(PendingCreate::request).toList());
+                for (int i = 0; i < pendings.size(); i++) {
+                    created.put(pendings.get(i), saved.get(i));
+                }
+            }));
+        } catch (Exception e) {
+            // 배치 전체가 롤백되면 한 건씩 다시 저장해 실패한 요청만 오류로 응답
+            log.warn("근무 기록 배치 저장 실패, 단건으로 재시도 - {}건: {}", batch.size(), e.getMessage());
+            commitEach(batch);
+            return;
+        }
+        // 응답 전에 표시해야 응답 직후 조회가 primary로 감
+        created.keySet().forEach(this::markWriter);
+        created.forEach((pending, dto) -> pending.result().complete(dto));
+    }
+
+    private void commitEach(List<PendingCreate> batch) {
+        for (PendingCreate pending : batch) {
+            try {
+                WorkRecordResponseDto created = workRecordService.createWorkRecord(pending.userId(), pending.request());
+                markWriter(pending);
+                pending.result().complete(created);
+            } catch (Exception e) {
+                pending.result().completeExceptionally(e);
+            }
+        }
+    }
+
+    private void markWriter(PendingCreate pending) {
+        if (routingDataSource != null) {
+            routingDataSource.markRecentWriter(pending.username());
+        }
+    }
+
+    private record PendingCreate(Long userId, String username, WorkRecordRequestDto request,
+                                 CompletableFuture<WorkRecordResponseDto> result) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.albatime.calc.store;
+
+import java.time.YearMonth;
+
+// 메모리 저장소 키 - 사용자별 한 달
+public record HotMonthKey(long userId, YearMonth month) {
+}
@@ -0,0 +1,228 @@
+package com.albatime.calc.store;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.albatime.calc.dto.WorkRecordResponseDto;
+import com.albatime.calc.dto.WorkSummaryView;
+
+// 한 사용자의 한 달 근무 기록을 열 단위 원시 배열로 보관 - (workDate, id) 순으로 정렬된 불변 스냅샷
+// 행마다 엔티티/박싱 객체를 두지 않고, 응답할 때만 DTO를 만든다
+public final class MonthColumns implements WorkSummaryView {
+
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    // 행당 배열 원소 크기 합: long 4개(id, 버전, 생성/수정 시각) + int 6개 + memo 참조
+    private static final int BYTES_PER_ROW = 4 * Long.BYTES + 6 * Integer.BYTES + 8;
+    private static final int ARRAYS_OVERHEAD = 11 * 16 + 64;
+
+    private final int size;
+    private final long[] ids;
+    private final int[] epochDays;
+    private final int[] startSeconds;  // 시작 시간 (하루 중 초)
+    private final int[] endSeconds;  // 종료 시간 (하루 중 초)
+    private final int[] hourlyWages;
+    private final int[] workMinutes;
+    private final int[] totalWages;
+    private final String[] memos;
+    private final long[] createdAts;  // UTC 기준 epoch 마이크로초 (DATETIME(6) 정밀도)
+    private final long[] updatedAts;
+    private final long[] versions;
+
+    private final long totalMinutes;
+    private final long totalWage;
+    private final long hourlyWageSum;
+    private final long estimatedBytes;
+
+    private MonthColumns(Builder builder) {
+        this.size = builder.size;
+        this.ids = Arrays.copyOf(builder.ids, size);
+        this.epochDays = Arrays.copyOf(builder.epochDays, size);
+        this.startSeconds = Arrays.copyOf(builder.startSeconds, size);
+        this.endSeconds = Arrays.copyOf(builder.endSeconds, size);
+        this.hourlyWages = Arrays.copyOf(builder.hourlyWages, size);
+        this.workMinutes = Arrays.copyOf(builder.workMinutes, size);
+        this.totalWages = Arrays.copyOf(builder.totalWages, size);
+        this.memos = Arrays.copyOf(builder.memos, size);
+        this.createdAts = Arrays.copyOf(builder.createdAts, size);
+        this.updatedAts = Arrays.copyOf(builder.updatedAts, size);
+        this.versions = Arrays.copyOf(builder.versions, size);
+
+        long minutes = 0;
+        long wage = 0;
+        long wageSum = 0;
+        long memoBytes = 0;
+        for (int i = 0; i < size; i++) {
+            minutes += workMinutes[i];
+            wage += totalWages[i];
+            wageSum += hourlyWages[i];
+            if (memos[i] != null) {
+                memoBytes += 40 + memos[i].length() * 2L;
+            }
+        }
+        this.totalMinutes = minutes;
+        this.totalWage = wage;
+        this.hourlyWageSum = wageSum;
+        this.estimatedBytes = ARRAYS_OVERHEAD + (long) size * BYTES_PER_ROW + memoBytes;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 메모리 예산 계산용 추정 크기 (바이트)
+    public long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    // 달 전체 - 응답 DTO 목록 (호출마다 새 목록)
+    public List<WorkRecordResponseDto> toDtos() {
+        List<WorkRecordResponseDto> dtos = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            dtos.add(toDto(i));
+        }
+        return dtos;
+    }
+
+    // [startDate, endDate) 구간의 행만 out에 추가 - 날짜 열이 정렬되어 있으므로 이진 탐색으로 시작 위치를 찾음
+    public void appendTo(List<WorkRecordResponseDto> out, LocalDate startDate, LocalDate endDate) {
+        int endDay = (int) endDate.toEpochDay();
+        for (int i = lowerBound((int) startDate.toEpochDay()); i < size && epochDays[i] < endDay; i++) {
+            out.add(toDto(i));
+        }
+    }
+
+    @Override
+    public Long getRecordCount() {
+        return (long) size;
+    }
+
+    @Override
+    public Long getTotalMinutes() {
+        return totalMinutes;
+    }
+
+    @Override
+    public Long getTotalWage() {
+        return totalWage;
+    }
+
+    @Override
+    public Long getHourlyWageSum() {
+        return hourlyWageSum;
+    }
+
+    private int lowerBound(int epochDay) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (epochDays[mid] < epochDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private WorkRecordResponseDto toDto(int i) {
+        return WorkRecordResponseDto.builder()
+                .id(ids[i])
+                .workDate(LocalDate.ofEpochDay(epochDays[i]))
+                .startTime(LocalTime.ofSecondOfDay(startSeconds[i]))
+                .endTime(LocalTime.ofSecondOfDay(endSeconds[i]))
+                .hourlyWage(hourlyWages[i])
+                .memo(memos[i])
+                .workHours(workMinutes[i] / 60.0)
+                .totalWage(totalWages[i])
+                .createdAt(toDateTime(createdAts[i]))
+                .updatedAt(toDateTime(updatedAts[i]))
+                .version(versions[i])
+                .build();
+    }
+
+    private static long toEpochMicros(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return NO_TIMESTAMP;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    private static LocalDateTime toDateTime(long epochMicros) {
+        if (epochMicros == NO_TIMESTAMP) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMicros, 1_000_000L),
+                (int) Math.floorMod(epochMicros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    // 행은 (workDate, id) 순서로 추가해야 함
+    public static final class Builder {
+
+        private int size;
+        private long[] ids = new long[16];
+        private int[] epochDays = new int[16];
+        private int[] startSeconds = new int[16];
+        private int[] endSeconds = new int[16];
+        private int[] hourlyWages = new int[16];
+        private int[] workMinutes = new int[16];
+        private int[] totalWages = new int[16];
+        private String[] memos = new String[16];
+        private long[] createdAts = new long[16];
+        private long[] updatedAts = new long[16];
+        private long[] versions = new long[16];
+
+        private Builder() {
+        }
+
+        public Builder add(long id, LocalDate workDate, LocalTime startTime, LocalTime endTime, int hourlyWage,
+                           String memo, int workMinute, int totalWage,
+                           LocalDateTime createdAt, LocalDateTime updatedAt, long version) {
+            if (size == ids.length) {
+                grow();
+            }
+            ids[size] = id;
+            epochDays[size] = (int) workDate.toEpochDay();
+            startSeconds[size] = startTime.toSecondOfDay();
+            endSeconds[size] = endTime.toSecondOfDay();
+            hourlyWages[size] = hourlyWage;
+            memos[size] = memo;
+            workMinutes[size] = workMinute;
+            totalWages[size] = totalWage;
+            createdAts[size] = toEpochMicros(createdAt);
+            updatedAts[size] = toEpochMicros(updatedAt);
+            versions[size] = version;
+            size++;
+            return this;
+        }
+
+        public MonthColumns build() {
+            return new MonthColumns(this);
+        }
+
+        private void grow() {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            epochDays = Arrays.copyOf(epochDays, capacity);
+            startSeconds = Arrays.copyOf(startSeconds, capacity);
+            endSeconds = Arrays.copyOf(endSeconds, capacity);
+            hourlyWages = Arrays.copyOf(hourlyWages, capacity);
+            workMinutes = Arrays.copyOf(workMinutes, capacity);
+            totalWages = Arrays.copyOf(totalWages, capacity);
+            memos = Arrays.copyOf(memos, capacity);
+            createdAts = Arrays.copyOf(createdAts, capacity);
+            updatedAts = Arrays.copyOf(updatedAts, capacity);
+            versions = Arrays.copyOf(versions, capacity);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.albatime.config;
+
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 월별 목록/통계 캐시 - 크기/TTL은 spring.cache.caffeine.spec 에서 설정
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String MONTHLY_RECORDS = "monthlyRecords";
+    public static final String MONTHLY_SUMMARY = "monthlySummary";
+
+    // 사용자별 월 캐시 키 - 같은 달이라도 사용자마다 따로 캐시
+    public static String monthKey(Long userId, int year, int month) {
+        return userId + ":" + (year * 100 + month);
+    }
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> transactionAwareCacheCustomizer() {
+        // 쓰기 트랜잭션이 커밋된 뒤에 무효화되도록 트랜잭션 연동
+        return cacheManager -> cacheManager.setTransactionAware(true);
+    }
+}
@@ -0,0 +1,97 @@
+package com.albatime.config;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionEventListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// Hibernate 세션(요청)별 JDBC 문장 수/실행 시간/flush 엔티티 수 기록
+// 미터와 느린 쿼리 기준은 빈 하나가 들고, 세션마다 집계 상태만 가진 리스너를 새로 생성 (MetricsConfig에서 EntityManager 생성 시 등록)
+public class HibernateSessionMetrics {
+
+    private final DistributionSummary statements;
+    private final Timer jdbcTime;
+    private final DistributionSummary flushedEntities;
+    private final Counter slowQueries;
+    private final long slowQueryThresholdNanos;
+
+    public HibernateSessionMetrics(MeterRegistry meterRegistry, Duration slowQueryThreshold) {
+        this.statements = DistributionSummary.builder("albatime.hibernate.session.statements")
+                .description("세션당 실행한 JDBC 문장 수")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.jdbcTime = Timer.builder("albatime.hibernate.session.jdbc")
+                .description("세션당 JDBC 실행 시간 합계")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.flushedEntities = DistributionSummary.builder("albatime.hibernate.session.flushed.entities")
+                .description("세션당 flush 대상 엔티티 수")
+                .register(meterRegistry);
+        this.slowQueries = Counter.builder("albatime.hibernate.slow.queries")
+                .description("기준 시간을 넘긴 JDBC 문장 수")
+                .register(meterRegistry);
+        this.slowQueryThresholdNanos = slowQueryThreshold.toNanos();
+    }
+
+    public SessionEventListener newSessionListener() {
+        return new SessionListener();
+    }
+
+    // 세션 하나에서만 쓰이므로 동기화 없음
+    private class SessionListener implements SessionEventListener {
+
+        private int statementCount;
+        private long jdbcNanos;
+        private long statementStart;
+        private long batchStart;
+        private int flushedEntityCount;
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            statementStart = System.nanoTime();
+        }
+
+        @Override
+        public void jdbcExecuteStatementEnd() {
+            record(System.nanoTime() - statementStart);
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            batchStart = System.nanoTime();
+        }
+
+        @Override
+        public void jdbcExecuteBatchEnd() {
+            record(System.nanoTime() - batchStart);
+        }
+
+        @Override
+        public void flushEnd(int numberOfEntities, int numberOfCollections) {
+            flushedEntityCount += numberOfEntities;
+        }
+
+        @Override
+        public void end() {
+            if (statementCount == 0 && flushedEntityCount == 0) {
+                return;
+            }
+            statements.record(statementCount);
+            jdbcTime.record(jdbcNanos, TimeUnit.NANOSECONDS);
+            flushedEntities.record(flushedEntityCount);
+        }
+
+        private void record(long elapsedNanos) {
+            statementCount++;
+            jdbcNanos += elapsedNanos;
+            if (elapsedNanos > slowQueryThresholdNanos) {
+                slowQueries.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.albatime.config;
+
+import java.time.Duration;
+
+import org.hibernate.Session;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 서비스(@Timed), HTTP, 리포지토리, Hikari, Hibernate 통계는 Actuator 자동 설정 + application.yml
+// 여기서는 세션별 Hibernate 통계 리스너와 느린 쿼리 기준만 등록
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public HibernateSessionMetrics hibernateSessionMetrics(
+            MeterRegistry meterRegistry,
+            @Value("${albatime.metrics.slow-query-threshold-ms:200}") long slowQueryThresholdMillis) {
+        return new HibernateSessionMetrics(meterRegistry, Duration.ofMillis(slowQueryThresholdMillis));
+    }
+
+    // EntityManager(=세션)가 만들어질 때마다 리스너 등록 - 트랜잭션용/공유 EntityManager 모두 이 팩토리를 거침
+    // 후처리기는 일찍 생성되므로 static으로 두고, 미터 빈은 첫 세션 생성 시점에 꺼냄
+    @Bean
+    public static BeanPostProcessor hibernateSessionMetricsInitializer(ObjectProvider<HibernateSessionMetrics> sessionMetrics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof AbstractEntityManagerFactoryBean entityManagerFactory) {
+                    entityManagerFactory.setEntityManagerInitializer(entityManager -> entityManager.unwrap(Session.class)
+                            .addEventListeners(sessionMetrics.getObject().newSessionListener()));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package com.albatime.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.albatime.calc.payrule.CompiledPayRules;
+import com.albatime.calc.payrule.PayRuleSet;
+
+// 가산 수당 규칙 - 기동 시 한 번 컴파일해서 급여 계산에 재사용
+@Configuration
+public class PayRuleConfig {
+
+    @Bean
+    public CompiledPayRules compiledPayRules(
+            @Value("${albatime.pay-rules.night-start-hour:22}") int nightStartHour,
+            @Value("${albatime.pay-rules.night-end-hour:6}") int nightEndHour,
+            @Value("${albatime.pay-rules.night-premium-percent:50}") int nightPremiumPercent,
+            @Value("${albatime.pay-rules.daily-overtime-hours:8}") int dailyOvertimeHours,
+            @Value("${albatime.pay-rules.weekly-overtime-hours:40}") int weeklyOvertimeHours,
+            @Value("${albatime.pay-rules.overtime-premium-percent:50}") int overtimePremiumPercent,
+            @Value("${albatime.pay-rules.weekly-holiday-min-hours:15}") int weeklyHolidayMinHours,
+            @Value("${albatime.pay-rules.weekly-holiday-full-hours:40}") int weeklyHolidayFullHours,
+            @Value("${albatime.pay-rules.weekly-holiday-paid-hours:8}") int weeklyHolidayPaidHours) {
+        return PayRuleSet.builder()
+                .nightStartHour(nightStartHour)
+                .nightEndHour(nightEndHour)
+                .nightPremiumPercent(nightPremiumPercent)
+                .dailyOvertimeHours(dailyOvertimeHours)
+                .weeklyOvertimeHours(weeklyOvertimeHours)
+                .overtimePremiumPercent(overtimePremiumPercent)
+                .weeklyHolidayMinHours(weeklyHolidayMinHours)
+                .weeklyHolidayFullHours(weeklyHolidayFullHours)
+                .weeklyHolidayPaidHours(weeklyHolidayPaidHours)
+                .build()
+                .compile();
+    }
+}
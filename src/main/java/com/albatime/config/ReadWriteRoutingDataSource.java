@@ -0,0 +1,118 @@
+package com.albatime.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+// readOnly 트랜잭션은 replica, 나머지는 primary로 연결
+// - 쓰기 트랜잭션을 커밋한 사용자는 일정 시간 동안 읽기도 primary (복제 지연 중 자기 변경이 안 보이는 문제 방지)
+//   인증 정보 없이 커밋하는 작업 스레드(쓰기 지연 등)는 커밋 후 markRecentWriter로 직접 표시
+// - replica 연결에 실패하면 primary로 대신 연결하고 일정 시간 동안 replica를 쓰지 않음
+// 트랜잭션 시작 시점이 아닌 첫 쿼리 시점에 판단해야 하므로 LazyConnectionDataSourceProxy로 감싸서 사용
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+    private static final String ANONYMOUS = "";
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final Cache<String, Boolean> recentWriters;
+    private final long retryIntervalNanos;
+
+    private volatile boolean replicaDown;
+    private volatile long replicaRetryAt;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica,
+                                      Duration readYourWritesWindow, Duration retryInterval) {
+        this.primary = primary;
+        this.replica = replica;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(readYourWritesWindow)
+                .maximumSize(100_000)
+                .build();
+        this.retryIntervalNanos = retryInterval.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!useReplica()) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.getConnection();
+        } catch (SQLException | RuntimeException e) {
+            markReplicaDown(e);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (!useReplica()) {
+            return primary.getConnection(username, password);
+        }
+        try {
+            return replica.getConnection(username, password);
+        } catch (SQLException | RuntimeException e) {
+            markReplicaDown(e);
+            return primary.getConnection(username, password);
+        }
+    }
+
+    // 다른 스레드에서 대신 커밋한 쓰기 - 커밋이 끝난 뒤 호출
+    public void markRecentWriter(String username) {
+        recentWriters.put(username, Boolean.TRUE);
+    }
+
+    boolean isReplicaDown() {
+        return replicaDown && System.nanoTime() - replicaRetryAt < 0;
+    }
+
+    private boolean useReplica() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // 인증 정보가 없는 스레드의 쓰기는 표시하지 않음 - 공용 키로 모든 익명 읽기가 primary에 고정되지 않도록
+            String user = currentUser();
+            if (!ANONYMOUS.equals(user) && TransactionSynchronizationManager.isSynchronizationActive()) {
+                markWriterOnCommit(user);
+            }
+            return false;
+        }
+        return recentWriters.getIfPresent(currentUser()) == null && !isReplicaDown();
+    }
+
+    // 읽기 고정 시간은 쓰기가 커밋된 시점부터 - 긴 트랜잭션이 끝나기 전에 시간이 지나거나, 롤백된 쓰기로 고정되지 않도록
+    private void markWriterOnCommit(String user) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(user, Boolean.TRUE);
+            }
+        });
+    }
+
+    private void markReplicaDown(Exception e) {
+        if (!isReplicaDown()) {
+            log.warn("replica 연결 실패 - {}초 동안 primary로 읽기: {}", retryIntervalNanos / 1_000_000_000L, e.getMessage());
+        }
+        replicaRetryAt = System.nanoTime() + retryIntervalNanos;
+        replicaDown = true;
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : ANONYMOUS;
+    }
+}
@@ -0,0 +1,33 @@
+package com.albatime.config;
+
+import java.util.Collection;
+
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+// 리포지토리 조회 결과 행 수 - 호출 시간은 Spring Data 기본 메트릭(spring.data.repository.invocations)
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RepositoryMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @AfterReturning(pointcut = "execution(* com.albatime.calc.repository..*(..))", returning = "result")
+    public void recordRowCount(JoinPoint joinPoint, Object result) {
+        if (result instanceof Collection<?> rows) {
+            DistributionSummary.builder("albatime.repository.rows")
+                    .description("리포지토리 조회 결과 행 수")
+                    .tag("repository", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .register(meterRegistry)
+                    .record(rows.size());
+        }
+    }
+}
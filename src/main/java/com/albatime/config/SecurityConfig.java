@@ -1,55 +1,90 @@
 package com.albatime.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+import org.springframework.security.web.header.writers.CacheControlHeadersWriter;
+import org.springframework.security.web.header.writers.DelegatingRequestMatcherHeaderWriter;
+import org.springframework.security.web.util.matcher.NegatedRequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import com.albatime.auth.token.AuthTokenProvider;
+import com.albatime.auth.token.TokenAuthenticationFilter;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+
 import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+    private static final Pattern VALIDATED_GET_PATHS =
+            Pattern.compile("/api/work-records/(\\d+|range|monthly|monthly/summary|daily)");
+
+    // Basic 인증은 요청마다 BCrypt 검증 - 토큰(Bearer)으로 옮긴 뒤에는 꺼 둘 수 있음
+    @Value("${albatime.auth.http-basic.enabled:true}")
+    private boolean httpBasicEnabled;
+
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, AuthTokenProvider authTokenProvider) throws Exception {
         http
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .csrf(csrf -> csrf.disable())
+            // 기본 Cache-Control(no-store)은 ETag 조회를 제외한 응답에만 - 조회 응답은 컨트롤러가 no-cache, private 지정
+            .headers(headers -> headers
+                .cacheControl(cache -> cache.disable())
+                .addHeaderWriter(new DelegatingRequestMatcherHeaderWriter(
+                    new NegatedRequestMatcher(SecurityConfig::isValidatedGet), new CacheControlHeadersWriter()))
+            )
             .authorizeHttpRequests(auth -> auth
-                .requestMatchers("/api/auth/**").permitAll()  // 로그인/로그아웃은 인증 없이 접근
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()  // 비동기 응답 재디스패치 (처음 요청에서 이미 인가)
+                .requestMatchers("/api/auth/login", "/api/auth/logout", "/api/auth/check").permitAll()  // 로그인/로그아웃은 인증 없이 접근
+                .requestMatchers("/api/work-records/summary/rebuild", "/api/work-records/summary/drift", "/api/auth/stats").hasRole("ADMIN")  // 전체 사용자 통계/로그인 통계 관리
                 .requestMatchers("/api/**").authenticated()    // 나머지 API는 인증 필요
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")  // 메트릭/환경 정보는 관리자만
                 .anyRequest().permitAll()
             )
             .sessionManagement(session -> session
                 .sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED)
             )
-            .httpBasic(basic -> {})
+            .addFilterBefore(new TokenAuthenticationFilter(authTokenProvider), BasicAuthenticationFilter.class)
             .formLogin(form -> form.disable());
 
+        if (httpBasicEnabled) {
+            http.httpBasic(basic -> {});
+        } else {
+            // Basic 인증을 끄면 인증 실패 응답을 401로 유지
+            http.httpBasic(basic -> basic.disable())
+                .exceptionHandling(exception -> exception
+                    .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
+                );
+        }
+
         return http.build();
     }
 
-    @Bean
-    public UserDetailsService userDetailsService() {
-        UserDetails user = User.builder()
-            .username("mingulover")
-            .password(passwordEncoder().encode("mingchaedan"))  
-            .roles("USER")
-            .build();
-
-        return new InMemoryUserDetailsManager(user);
+    // ETag/Last-Modified로 304를 돌려주는 근무 기록 조회
+    private static boolean isValidatedGet(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return HttpMethod.GET.matches(request.getMethod()) && VALIDATED_GET_PATHS.matcher(path).matches();
     }
 
     @Bean
@@ -67,6 +102,7 @@ public class SecurityConfig {
         ));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        configuration.setExposedHeaders(List.of(HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED));  // 프론트엔드가 조건부 GET 검증값을 읽을 수 있도록
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
 
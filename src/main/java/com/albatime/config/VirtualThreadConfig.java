@@ -0,0 +1,36 @@
+package com.albatime.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 가상 스레드 실행 모드 (spring.threads.virtual.enabled=true)
+// Tomcat 요청/비동기 작업은 Spring Boot가 가상 스레드로 전환하고, 여기서는 DB 풀 크기에 맞춘 동시 요청 제한만 추가
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${albatime.virtual-threads.requests-per-connection:4}") int requestsPerConnection,
+            @Value("${albatime.virtual-threads.acquire-timeout:2s}") Duration acquireTimeout) {
+        int maxConcurrentRequests = maximumPoolSize * requestsPerConnection;
+        log.info("가상 스레드 모드 - 동시 API 요청 한도: {} (커넥션 {}개 x {})",
+                maxConcurrentRequests, maximumPoolSize, requestsPerConnection);
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new ConcurrencyLimitFilter(maxConcurrentRequests, acquireTimeout));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,97 @@
+package com.albatime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 플랫폼 스레드(기본, Tomcat 스레드 수 제한)와 가상 스레드 모드 모두 DB를 타는 API 동시 요청을 실패 없이 처리하는지 확인.
+ * p99/처리량 비교는 공유 장비에서 흔들리므로 하지 않는다.
+ */
+@Tag("benchmark")
+class VirtualThreadLoadTest {
+
+    private static final int CONCURRENT_CLIENTS = 400;
+    private static final int REQUESTS_PER_CLIENT = 25;
+    private static final String TARGET = "/api/work-records/range?startDate=2025-01-01&endDate=2025-01-31";
+    // 기본 사용자 비밀번호는 저장소에 없음 - 앱 기동과 같은 환경 변수로 받음
+    private static final String PASSWORD = System.getenv("ALBATIME_SEED_PASSWORD");
+
+    @Test
+    void bothThreadModesServeEveryConcurrentRequest() throws Exception {
+        assumeTrue(PASSWORD != null && !PASSWORD.isBlank(), "ALBATIME_SEED_PASSWORD가 없으면 기본 사용자로 로그인할 수 없음");
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        assertThat(platform).isEqualTo(new Result(CONCURRENT_CLIENTS * REQUESTS_PER_CLIENT, 0));
+        assertThat(virtual).isEqualTo(new Result(CONCURRENT_CLIENTS * REQUESTS_PER_CLIENT, 0));
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AlbatimeApplication.class)
+                .properties(
+                        "server.port=0",
+                        "server.tomcat.threads.max=50",
+                        "spring.threads.virtual.enabled=" + virtualThreads)
+                .run()) {
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient client = HttpClient.newBuilder().cookieHandler(new CookieManager()).build();
+            login(client, port);
+
+            AtomicInteger completed = new AtomicInteger();
+            AtomicInteger failures = new AtomicInteger();
+            ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+
+            for (int i = 0; i < CONCURRENT_CLIENTS; i++) {
+                clients.submit(() -> {
+                    for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                        try {
+                            HttpResponse<Void> response = client.send(
+                                    HttpRequest.newBuilder(URI.create("http://localhost:" + port + TARGET)).GET().build(),
+                                    HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                failures.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            failures.incrementAndGet();
+                        }
+                        completed.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            clients.shutdown();
+            clients.awaitTermination(5, TimeUnit.MINUTES);
+
+            return new Result(completed.get(), failures.get());
+        }
+    }
+
+    private void login(HttpClient client, int port) throws Exception {
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"mingulover\",\"password\":\"" + PASSWORD + "\"}"))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+    }
+
+    private record Result(int completed, int failures) {
+    }
+}
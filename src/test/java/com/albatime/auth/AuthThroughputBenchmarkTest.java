@@ -0,0 +1,114 @@
+package com.albatime.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.albatime.AlbatimeApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Basic 인증(요청마다 BCrypt)과 Bearer 토큰(HMAC 검증)이 동시 요청에서도 모두 인증되는지 확인.
+ * 처리량 비교는 공유 장비에서 흔들리므로 하지 않고, 실패 없이 모든 요청이 처리되는지만 본다.
+ */
+@Tag("benchmark")
+class AuthThroughputBenchmarkTest {
+
+    private static final String USERNAME = "mingulover";
+    // 기본 사용자 비밀번호는 저장소에 없음 - 앱 기동과 같은 환경 변수로 받음
+    private static final String PASSWORD = System.getenv("ALBATIME_SEED_PASSWORD");
+    private static final String TARGET = "/api/work-records/cache/stats";
+    private static final int CONCURRENT_CLIENTS = 16;
+    private static final int REQUESTS_PER_CLIENT = 200;
+
+    @Test
+    void basicAndTokenAuthenticateEveryConcurrentRequest() throws Exception {
+        assumeTrue(PASSWORD != null && !PASSWORD.isBlank(), "ALBATIME_SEED_PASSWORD가 없으면 기본 사용자로 로그인할 수 없음");
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AlbatimeApplication.class)
+                .properties("server.port=0")
+                .run()) {
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient client = HttpClient.newHttpClient();
+
+            String basic = "Basic " + Base64.getEncoder()
+                    .encodeToString((USERNAME + ":" + PASSWORD).getBytes(StandardCharsets.UTF_8));
+            String bearer = "Bearer " + login(client, port);
+
+            // JIT/커넥션 예열
+            run(client, port, bearer, 2, 50);
+            run(client, port, basic, 2, 50);
+
+            Result basicResult = run(client, port, basic, CONCURRENT_CLIENTS, REQUESTS_PER_CLIENT);
+            Result tokenResult = run(client, port, bearer, CONCURRENT_CLIENTS, REQUESTS_PER_CLIENT);
+
+            assertThat(basicResult).isEqualTo(new Result(CONCURRENT_CLIENTS * REQUESTS_PER_CLIENT, 0));
+            assertThat(tokenResult).isEqualTo(new Result(CONCURRENT_CLIENTS * REQUESTS_PER_CLIENT, 0));
+        }
+    }
+
+    private String login(HttpClient client, int port) throws Exception {
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(
+                                "{\"username\":\"" + USERNAME + "\",\"password\":\"" + PASSWORD + "\"}"))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+        JsonNode body = new ObjectMapper().readTree(response.body());
+        return body.get("token").asText();
+    }
+
+    private Result run(HttpClient client, int port, String authorization, int clients, int requestsPerClient)
+            throws InterruptedException {
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+
+        for (int i = 0; i < clients; i++) {
+            executor.submit(() -> {
+                for (int r = 0; r < requestsPerClient; r++) {
+                    try {
+                        HttpResponse<Void> response = client.send(
+                                HttpRequest.newBuilder(URI.create("http://localhost:" + port + TARGET))
+                                        .header("Authorization", authorization)
+                                        .GET()
+                                        .build(),
+                                HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    }
+                    completed.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.MINUTES);
+
+        return new Result(completed.get(), failures.get());
+    }
+
+    private record Result(int completed, int failures) {
+    }
+}
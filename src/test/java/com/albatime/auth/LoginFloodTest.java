@@ -0,0 +1,133 @@
+package com.albatime.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.albatime.AlbatimeApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 로그인 요청이 폭주해도 근무 기록 API 지연이 크게 늘지 않는지 확인.
+ * 요청 한도를 높여 둬서 검증 스레드 풀/대기열 제한(503)만으로 버티는 상황을 만든다.
+ */
+@Tag("benchmark")
+class LoginFloodTest {
+
+    private static final String TARGET = "/api/work-records/range?startDate=2025-01-01&endDate=2025-01-31";
+    private static final int FLOOD_CLIENTS = 200;
+    private static final int PROBE_REQUESTS = 300;
+    // 폭주 중 p99 허용치 - 평소 p99의 3배 + 20ms (평소 p99가 수 ms라 배수만으로는 흔들림에 너무 민감함)
+    private static final long MAX_P99_RATIO = 3;
+    private static final long P99_SLACK_MS = 20;
+    // 기본 사용자 비밀번호는 저장소에 없음 - 앱 기동과 같은 환경 변수로 받음
+    private static final String PASSWORD = System.getenv("ALBATIME_SEED_PASSWORD");
+
+    @Test
+    void workRecordLatencyStaysFlatWhileLoginsAreFlooded() throws Exception {
+        assumeTrue(PASSWORD != null && !PASSWORD.isBlank(), "ALBATIME_SEED_PASSWORD가 없으면 기본 사용자로 로그인할 수 없음");
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AlbatimeApplication.class)
+                .properties(
+                        "server.port=0",
+                        "albatime.auth.login.rate-limit.per-username=1000000",
+                        "albatime.auth.login.rate-limit.per-ip=1000000")
+                .run()) {
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient client = HttpClient.newHttpClient();
+            String bearer = "Bearer " + login(client, port, PASSWORD).token();
+
+            probe(client, port, bearer, 50);  // 예열
+            List<Long> baseline = probe(client, port, bearer, PROBE_REQUESTS);
+
+            AtomicBoolean flooding = new AtomicBoolean(true);
+            AtomicInteger shed = new AtomicInteger();
+            AtomicInteger verified = new AtomicInteger();
+            ExecutorService flood = Executors.newVirtualThreadPerTaskExecutor();
+            for (int i = 0; i < FLOOD_CLIENTS; i++) {
+                flood.submit(() -> {
+                    while (flooding.get()) {
+                        int status = login(client, port, "wrong-password").status;
+                        if (status == 503 || status == 429) {
+                            shed.incrementAndGet();
+                        } else {
+                            verified.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            Thread.sleep(1_000);
+            List<Long> underFlood = probe(client, port, bearer, PROBE_REQUESTS);
+            flooding.set(false);
+            flood.shutdown();
+            flood.awaitTermination(1, TimeUnit.MINUTES);
+
+            assertThat(shed.get()).as("대기열 제한으로 거절된 로그인 (검증 %d건)", verified.get()).isPositive();
+            assertThat(underFlood).hasSize(PROBE_REQUESTS);
+
+            long baselineP99 = percentile(baseline, 0.99);
+            long floodP99 = percentile(underFlood, 0.99);
+            assertThat(floodP99)
+                    .as("폭주 중 p99 %dms (평소 p99 %dms, p50 %dms -> %dms)", floodP99, baselineP99,
+                            percentile(baseline, 0.50), percentile(underFlood, 0.50))
+                    .isLessThanOrEqualTo(baselineP99 * MAX_P99_RATIO + P99_SLACK_MS);
+        }
+    }
+
+    private List<Long> probe(HttpClient client, int port, String authorization, int requests) throws Exception {
+        List<Long> latencies = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            long start = System.nanoTime();
+            HttpResponse<Void> response = client.send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + port + TARGET))
+                            .header("Authorization", authorization)
+                            .GET()
+                            .build(),
+                    HttpResponse.BodyHandlers.discarding());
+            assertThat(response.statusCode()).isEqualTo(200);
+            latencies.add(System.nanoTime() - start);
+        }
+        return latencies;
+    }
+
+    private LoginResult login(HttpClient client, int port, String password) throws Exception {
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(
+                                "{\"username\":\"mingulover\",\"password\":\"" + password + "\"}"))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        String token = response.statusCode() == 200
+                ? new ObjectMapper().readTree(response.body()).get("token").asText()
+                : null;
+        return new LoginResult(response.statusCode(), token);
+    }
+
+    private static long percentile(List<Long> latencies, double percentile) {
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        return sorted.get((int) Math.ceil(sorted.size() * percentile) - 1) / 1_000_000;
+    }
+
+    private record LoginResult(int status, String token) {
+    }
+}
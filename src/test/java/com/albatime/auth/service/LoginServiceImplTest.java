@@ -0,0 +1,64 @@
+package com.albatime.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 사용자별 한도는 실패만 세고 성공하면 초기화되는지 확인 - 다른 사람이 정상 로그인 횟수를 소진시켜 잠글 수 없어야 한다.
+ */
+class LoginServiceImplTest {
+
+    private static final int MAX_FAILURES = 3;
+
+    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+    private final LoginServiceImpl loginService = new LoginServiceImpl(
+            new InMemoryUserDetailsManager(User.withUsername("alice").password(passwordEncoder.encode("secret")).roles("USER").build()),
+            passwordEncoder, new SimpleMeterRegistry(),
+            1, 8, Duration.ofSeconds(5), Duration.ofMinutes(1), MAX_FAILURES, 1000);
+
+    @AfterEach
+    void tearDown() {
+        loginService.destroy();
+    }
+
+    @Test
+    void successfulLoginsDoNotUseUpUsernameLimit() {
+        for (int i = 0; i < MAX_FAILURES * 3; i++) {
+            assertThat(loginService.authenticate("alice", "secret", "10.0.0." + i).join().getUsername()).isEqualTo("alice");
+        }
+        assertThat(loginService.getStats().getRejectedByUsernameLimit()).isZero();
+    }
+
+    @Test
+    void failuresAreLimitedAndResetBySuccess() {
+        for (int i = 0; i < MAX_FAILURES - 1; i++) {
+            assertFailure("wrong", BadCredentialsException.class);
+        }
+        loginService.authenticate("alice", "secret", "10.0.0.1").join();
+
+        // 성공으로 초기화되어 다시 MAX_FAILURES번 실패할 수 있고, 그 다음부터는 맞는 비밀번호도 검증 전에 429
+        for (int i = 0; i < MAX_FAILURES; i++) {
+            assertFailure("wrong", BadCredentialsException.class);
+        }
+        assertFailure("secret", LoginRejectedException.class);
+        assertThat(loginService.getStats().getRejectedByUsernameLimit()).isEqualTo(1);
+    }
+
+    private void assertFailure(String password, Class<? extends Throwable> expected) {
+        assertThatThrownBy(() -> loginService.authenticate("alice", password, "10.0.0.1").join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(expected);
+    }
+}
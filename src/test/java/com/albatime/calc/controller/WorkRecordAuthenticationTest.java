@@ -0,0 +1,44 @@
+package com.albatime.calc.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * 인증은 통과했지만 사용자 테이블에 없는 principal(삭제된 계정의 토큰 등) - 서비스 예외 처리에 감싸여 500이 되지 않고 401인지 확인한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser(username = "no-such-user")
+class WorkRecordAuthenticationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void readsOfUnknownUserAreUnauthorized() throws Exception {
+        mockMvc.perform(get("/api/work-records")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/work-records/1")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/work-records/range?startDate=2089-01-01&endDate=2089-01-31")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/work-records/summary?from=2089-01&to=2089-03")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/work-records/daily?from=2089-01-01&to=2089-01-31")).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void writesOfUnknownUserAreUnauthorized() throws Exception {
+        mockMvc.perform(patch("/api/work-records/1").contentType(MediaType.APPLICATION_JSON).content("{\"memo\":\"x\"}"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(delete("/api/work-records/1")).andExpect(status().isUnauthorized());
+        mockMvc.perform(delete("/api/work-records").param("from", "2089-01-01").param("to", "2089-01-31"))
+                .andExpect(status().isUnauthorized());
+    }
+}
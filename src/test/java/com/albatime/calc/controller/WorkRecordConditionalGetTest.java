@@ -0,0 +1,170 @@
+package com.albatime.calc.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.options;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalTime;
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.albatime.auth.service.CurrentUserService;
+import com.albatime.calc.dto.WorkRecordPatchDto;
+import com.albatime.calc.dto.WorkRecordRequestDto;
+import com.albatime.calc.dto.WorkRecordResponseDto;
+import com.albatime.calc.service.WorkRecordService;
+import com.albatime.config.CacheConfig;
+
+/**
+ * 조건부 GET - 처음 200(ETag), 같은 ETag면 304, 등록/수정/삭제 후에는 다시 200인지 확인한다.
+ * Security 기본 no-store 대신 no-cache, private이 붙어야 브라우저가 응답을 저장하고 If-None-Match를 보낸다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser(username = "mingulover")
+class WorkRecordConditionalGetTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2089, 5);
+    private static final String REVALIDATE = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WorkRecordService workRecordService;
+
+    @Autowired
+    private CurrentUserService currentUserService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @AfterEach
+    void cleanUp() {
+        workRecordService.deleteWorkRecordsByDateRange(MONTH.atDay(1), MONTH.atEndOfMonth());
+    }
+
+    @Test
+    void singleRecordRevalidatesAfterPatchAndDelete() throws Exception {
+        WorkRecordResponseDto created = workRecordService.createWorkRecord(request(3));
+        String url = "/api/work-records/" + created.getId();
+
+        String etag = assertCachedThenNotModified(url);
+
+        workRecordService.patchWorkRecord(created.getId(), null, WorkRecordPatchDto.builder().memo("patched").build());
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag)).andExpect(status().isOk());
+        assertCachedThenNotModified(url);
+
+        workRecordService.deleteWorkRecord(created.getId(), null);
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void rangeRevalidatesAfterEveryWrite() throws Exception {
+        assertRevalidatesAfterWrites("/api/work-records/range?startDate=" + MONTH.atDay(1) + "&endDate=" + MONTH.atEndOfMonth());
+    }
+
+    @Test
+    void monthlyRevalidatesAfterEveryWrite() throws Exception {
+        assertRevalidatesAfterWrites("/api/work-records/monthly?year=" + MONTH.getYear() + "&month=" + MONTH.getMonthValue());
+    }
+
+    @Test
+    void monthlySummaryRevalidatesAfterEveryWrite() throws Exception {
+        assertRevalidatesAfterWrites("/api/work-records/monthly/summary?year=" + MONTH.getYear() + "&month=" + MONTH.getMonthValue());
+    }
+
+    // 무효화보다 먼저 캐시에 다시 들어간 이전 본문(경합)이 있어도 변경 번호가 달라 새 본문과 새 ETag로 응답
+    @Test
+    void staleCachedMonthIsNotServedUnderNewEtag() throws Exception {
+        String url = "/api/work-records/monthly?year=" + MONTH.getYear() + "&month=" + MONTH.getMonthValue();
+        String etag = assertCachedThenNotModified(url);
+        Cache monthlyRecords = cacheManager.getCache(CacheConfig.MONTHLY_RECORDS);
+        String key = CacheConfig.monthKey(currentUserService.getCurrentUserId(), MONTH.getYear(), MONTH.getMonthValue());
+        Object stale = monthlyRecords.get(key).get();
+
+        workRecordService.createWorkRecord(request(4));
+        monthlyRecords.put(key, stale);
+
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+        assertThat(assertCachedThenNotModified(url)).isNotEqualTo(etag);
+    }
+
+    @Test
+    void dailyRevalidatesAfterEveryWrite() throws Exception {
+        assertRevalidatesAfterWrites("/api/work-records/daily?from=" + MONTH.atDay(1) + "&to=" + MONTH.atEndOfMonth());
+    }
+
+    @Test
+    void corsExposesValidators() throws Exception {
+        mockMvc.perform(options("/api/work-records/monthly")
+                        .header(HttpHeaders.ORIGIN, "http://localhost:5173")
+                        .header(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "GET"))
+                .andExpect(status().isOk());
+        String exposed = mockMvc.perform(get("/api/work-records/monthly?year=" + MONTH.getYear() + "&month=" + MONTH.getMonthValue())
+                        .header(HttpHeaders.ORIGIN, "http://localhost:5173"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS);
+        assertThat(exposed).contains(HttpHeaders.ETAG).contains(HttpHeaders.LAST_MODIFIED);
+    }
+
+    // 등록 → 수정 → 삭제마다 이전 ETag로는 200, 새 ETag로는 다시 304
+    private void assertRevalidatesAfterWrites(String url) throws Exception {
+        WorkRecordResponseDto existing = workRecordService.createWorkRecord(request(1));
+        String etag = assertCachedThenNotModified(url);
+
+        WorkRecordResponseDto created = workRecordService.createWorkRecord(request(2));
+        etag = assertChanged(url, etag);
+
+        workRecordService.patchWorkRecord(created.getId(), null, WorkRecordPatchDto.builder().hourlyWage(12000).build());
+        etag = assertChanged(url, etag);
+
+        workRecordService.deleteWorkRecord(existing.getId(), null);
+        assertChanged(url, etag);
+    }
+
+    private String assertChanged(String url, String previousEtag) throws Exception {
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, previousEtag)).andExpect(status().isOk());
+        String etag = assertCachedThenNotModified(url);
+        assertThat(etag).isNotEqualTo(previousEtag);
+        return etag;
+    }
+
+    private String assertCachedThenNotModified(String url) throws Exception {
+        String etag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, REVALIDATE))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotBlank();
+
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, REVALIDATE));
+        return etag;
+    }
+
+    private WorkRecordRequestDto request(int day) {
+        return WorkRecordRequestDto.builder()
+                .workDate(MONTH.atDay(day))
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(18, 0))
+                .hourlyWage(10030)
+                .build();
+    }
+}
@@ -0,0 +1,146 @@
+package com.albatime.calc.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.albatime.calc.dto.WorkRecordColumnsDto;
+import com.albatime.calc.dto.WorkRecordRequestDto;
+import com.albatime.calc.service.WorkRecordService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+/**
+ * /range, /monthly의 Accept별 표현(JSON/열 단위 JSON/CBOR)과 Vary: Accept, fields 검증(없는 필드 400)을 확인한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser(username = "mingulover")
+class WorkRecordFormatNegotiationTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2089, 10);
+    private static final String MONTHLY = "/api/work-records/monthly?year=" + MONTH.getYear() + "&month=" + MONTH.getMonthValue();
+    private static final String RANGE = "/api/work-records/range?startDate=" + MONTH.atDay(1) + "&endDate=" + MONTH.atEndOfMonth();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WorkRecordService workRecordService;
+
+    @BeforeEach
+    void setUp() {
+        workRecordService.createWorkRecord(request(1));
+        workRecordService.createWorkRecord(request(2));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        workRecordService.deleteWorkRecordsByDateRange(MONTH.atDay(1), MONTH.atEndOfMonth());
+    }
+
+    @Test
+    void defaultIsRowJson() throws Exception {
+        for (String url : new String[] {MONTHLY, RANGE}) {
+            MockHttpServletResponse response = mockMvc.perform(get(url))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.length()").value(2))
+                    .andReturn().getResponse();
+            assertVariesByAccept(response);
+        }
+    }
+
+    @Test
+    void columnarJsonHonoursFields() throws Exception {
+        for (String url : new String[] {MONTHLY, RANGE}) {
+            MockHttpServletResponse response = mockMvc.perform(get(url + "&fields=workDate,totalWage,workDate")
+                            .accept(WorkRecordColumnsDto.COLUMNAR_JSON_VALUE))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(WorkRecordColumnsDto.COLUMNAR_JSON_VALUE))
+                    .andExpect(jsonPath("$.count").value(2))
+                    .andExpect(jsonPath("$.workDate.length()").value(2))
+                    .andExpect(jsonPath("$.totalWage.length()").value(2))
+                    .andExpect(jsonPath("$.memo").doesNotExist())
+                    .andReturn().getResponse();
+            assertVariesByAccept(response);
+        }
+    }
+
+    @Test
+    void cborHasSameColumnsAsColumnarJson() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get(MONTHLY).accept(WorkRecordColumnsDto.CBOR_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(WorkRecordColumnsDto.CBOR_VALUE))
+                .andReturn().getResponse();
+        assertVariesByAccept(response);
+
+        JsonNode columns = new ObjectMapper(new CBORFactory()).readTree(response.getContentAsByteArray());
+        assertThat(columns.path("count").asInt()).isEqualTo(2);
+        assertThat(columns.path("workDate").get(0).asText()).isEqualTo(MONTH.atDay(1).toString());
+    }
+
+    // 같은 URL이라도 표현마다 ETag가 달라야 다른 형식의 캐시 응답으로 304를 받지 않음
+    @Test
+    void representationsHaveDistinctEtags() throws Exception {
+        String json = etag(MONTHLY, MediaType.APPLICATION_JSON_VALUE);
+        String columnar = etag(MONTHLY, WorkRecordColumnsDto.COLUMNAR_JSON_VALUE);
+        String cbor = etag(MONTHLY, WorkRecordColumnsDto.CBOR_VALUE);
+
+        assertThat(json).isNotEqualTo(columnar).isNotEqualTo(cbor);
+        assertThat(columnar).isNotEqualTo(cbor);
+        mockMvc.perform(get(MONTHLY).accept(WorkRecordColumnsDto.CBOR_VALUE).header(HttpHeaders.IF_NONE_MATCH, columnar))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void unknownFieldIsBadRequest() throws Exception {
+        for (String url : new String[] {MONTHLY, RANGE}) {
+            mockMvc.perform(get(url + "&fields=workDate,salary").accept(WorkRecordColumnsDto.COLUMNAR_JSON_VALUE))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get(url + "&fields=salary").accept(WorkRecordColumnsDto.CBOR_VALUE))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    private String etag(String url, String accept) throws Exception {
+        return mockMvc.perform(get(url).accept(accept))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private static void assertVariesByAccept(MockHttpServletResponse response) {
+        assertThat(response.getHeaders(HttpHeaders.VARY).stream()
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .map(String::trim))
+                .contains(HttpHeaders.ACCEPT);
+    }
+
+    private WorkRecordRequestDto request(int day) {
+        return WorkRecordRequestDto.builder()
+                .workDate(MONTH.atDay(day))
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(18, 0))
+                .hourlyWage(10030)
+                .build();
+    }
+}
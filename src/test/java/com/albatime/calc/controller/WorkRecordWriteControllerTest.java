@@ -0,0 +1,151 @@
+package com.albatime.calc.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.albatime.calc.dto.WorkRecordRequestDto;
+import com.albatime.calc.dto.WorkRecordResponseDto;
+import com.albatime.calc.service.WorkRecordService;
+import com.albatime.config.CacheConfig;
+
+/**
+ * PATCH/DELETE 응답 코드(200/204, 없는 ID 404, 이전 버전 409, 저장된 시간과 같아지는 수정 422)와 기간 삭제,
+ * 단건 수정/삭제 후 캐시된 달이 새 값으로 다시 조회되고 다른 사용자 캐시는 그대로인지 확인한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser(username = "mingulover")
+class WorkRecordWriteControllerTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2089, 7);
+    private static final YearMonth NEXT_MONTH = MONTH.plusMonths(1);
+    private static final long MISSING_ID = Long.MAX_VALUE;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WorkRecordService workRecordService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @AfterEach
+    void cleanUp() {
+        workRecordService.deleteWorkRecordsByDateRange(MONTH.atDay(1), NEXT_MONTH.atEndOfMonth());
+    }
+
+    @Test
+    void patchReturnsNotFoundAndConflict() throws Exception {
+        WorkRecordResponseDto created = workRecordService.createWorkRecord(request(3));
+        String url = "/api/work-records/" + created.getId();
+
+        mockMvc.perform(patch(url).param("version", "0").contentType(MediaType.APPLICATION_JSON).content("{\"memo\":\"first\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(1))
+                .andExpect(jsonPath("$.memo").value("first"));
+
+        // 이미 1로 올라간 버전을 0으로 수정하면 409, 값은 그대로
+        mockMvc.perform(patch(url).param("version", "0").contentType(MediaType.APPLICATION_JSON).content("{\"memo\":\"stale\"}"))
+                .andExpect(status().isConflict());
+        assertThat(workRecordService.getWorkRecord(created.getId()).getMemo()).isEqualTo("first");
+
+        mockMvc.perform(patch("/api/work-records/" + MISSING_ID).contentType(MediaType.APPLICATION_JSON).content("{\"memo\":\"x\"}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void deleteReturnsNotFoundAndConflict() throws Exception {
+        WorkRecordResponseDto created = workRecordService.createWorkRecord(request(5));
+        String url = "/api/work-records/" + created.getId();
+
+        mockMvc.perform(delete(url).param("version", "3")).andExpect(status().isConflict());
+        mockMvc.perform(delete(url).param("version", "0")).andExpect(status().isNoContent());
+        mockMvc.perform(delete(url)).andExpect(status().isNotFound());
+        mockMvc.perform(delete("/api/work-records/" + MISSING_ID)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void rangeDeleteRemovesOnlyRecordsInRange() throws Exception {
+        workRecordService.createWorkRecord(request(1));
+        workRecordService.createWorkRecord(request(MONTH.lengthOfMonth()));
+        workRecordService.createWorkRecord(WorkRecordRequestDto.builder()
+                .workDate(NEXT_MONTH.atDay(1))
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(18, 0))
+                .hourlyWage(10030)
+                .build());
+
+        mockMvc.perform(delete("/api/work-records")
+                        .param("from", MONTH.atDay(1).toString())
+                        .param("to", MONTH.atEndOfMonth().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deletedCount").value(2));
+
+        assertThat(workRecordService.getWorkRecordsByYearAndMonth(MONTH.getYear(), MONTH.getMonthValue()).getBody()).isEmpty();
+        assertThat(workRecordService.getWorkRecordsByYearAndMonth(NEXT_MONTH.getYear(), NEXT_MONTH.getMonthValue()).getBody()).hasSize(1);
+    }
+
+    @Test
+    void patchThatMakesTimesEqualIsUnprocessable() throws Exception {
+        WorkRecordResponseDto created = workRecordService.createWorkRecord(request(7));
+
+        // 저장된 종료 시간(18:00)과 같은 시작 시간 - 요청만 보면 유효하지만 저장값과 합치면 잘못된 기록
+        mockMvc.perform(patch("/api/work-records/" + created.getId()).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"startTime\":\"18:00:00\"}"))
+                .andExpect(status().isUnprocessableEntity());
+        assertThat(workRecordService.getWorkRecord(created.getId()).getStartTime()).isEqualTo(LocalTime.of(9, 0));
+    }
+
+    @Test
+    void patchAndDeleteRefreshCachedMonths() throws Exception {
+        WorkRecordResponseDto created = workRecordService.createWorkRecord(request(10));
+        Cache monthlyRecords = cacheManager.getCache(CacheConfig.MONTHLY_RECORDS);
+        String otherUserKey = CacheConfig.monthKey(-1L, MONTH.getYear(), MONTH.getMonthValue());
+        monthlyRecords.put(otherUserKey, List.of());
+
+        // 두 달을 캐시에 올린 뒤 다음 달로 옮기면 이전 달/새 달 모두 새 값 (쓰기 전에 날짜를 조회하지 않음)
+        workRecordService.getWorkRecordsByYearAndMonth(MONTH.getYear(), MONTH.getMonthValue());
+        workRecordService.getWorkRecordsByYearAndMonth(NEXT_MONTH.getYear(), NEXT_MONTH.getMonthValue());
+        mockMvc.perform(patch("/api/work-records/" + created.getId()).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"workDate\":\"" + NEXT_MONTH.atDay(2) + "\"}"))
+                .andExpect(status().isOk());
+        assertThat(workRecordService.getWorkRecordsByYearAndMonth(MONTH.getYear(), MONTH.getMonthValue()).getBody()).isEmpty();
+        assertThat(workRecordService.getWorkRecordsByYearAndMonth(NEXT_MONTH.getYear(), NEXT_MONTH.getMonthValue()).getBody())
+                .extracting(WorkRecordResponseDto::getId).containsExactly(created.getId());
+
+        mockMvc.perform(delete("/api/work-records/" + created.getId())).andExpect(status().isNoContent());
+        assertThat(workRecordService.getWorkRecordsByYearAndMonth(NEXT_MONTH.getYear(), NEXT_MONTH.getMonthValue()).getBody()).isEmpty();
+
+        // 다른 사용자 캐시는 그대로
+        assertThat(monthlyRecords.get(otherUserKey)).isNotNull();
+        monthlyRecords.evict(otherUserKey);
+    }
+
+    private WorkRecordRequestDto request(int day) {
+        return WorkRecordRequestDto.builder()
+                .workDate(MONTH.atDay(day))
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(18, 0))
+                .hourlyWage(10030)
+                .build();
+    }
+}
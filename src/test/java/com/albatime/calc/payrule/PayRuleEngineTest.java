@@ -0,0 +1,95 @@
+package com.albatime.calc.payrule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 기본 규칙 (야간 22:00~06:00 50%, 1일 8시간/1주 40시간 초과 50%, 주 15시간 이상 주휴수당) 계산 확인.
+ */
+class PayRuleEngineTest {
+
+    private static final int WAGE = 10_000;
+    private static final long MONDAY = LocalDate.of(2025, 1, 6).toEpochDay();
+
+    private final CompiledPayRules rules = PayRuleSet.builder().build().compile();
+
+    @Test
+    void overnightShiftCountsNightMinutesOnBothDays() {
+        // 20:00 ~ 다음 날 02:00 -> 6시간 중 야간 4시간
+        assertThat(CompiledPayRules.shiftMinutes(20 * 60, 2 * 60)).isEqualTo(360);
+        assertThat(rules.nightMinutes(20 * 60, 2 * 60)).isEqualTo(240);
+        // 05:00 ~ 23:00 -> 새벽 1시간 + 밤 1시간
+        assertThat(rules.nightMinutes(5 * 60, 23 * 60)).isEqualTo(120);
+        assertThat(rules.nightMinutes(9 * 60, 18 * 60)).isZero();
+    }
+
+    @Test
+    void dailyOvertimeAndNightPremiumStack() {
+        PayrollAccumulator payroll = rules.newPayroll();
+        // 16:00 ~ 다음 날 02:00 -> 10시간, 연장 2시간, 야간 4시간
+        payroll.add(MONDAY, 16 * 60, 2 * 60, WAGE);
+
+        assertThat(payroll.getTotalMinutes()).isEqualTo(600);
+        assertThat(payroll.getOvertimeMinutes()).isEqualTo(120);
+        assertThat(payroll.getNightMinutes()).isEqualTo(240);
+        assertThat(payroll.getBaseWage()).isEqualTo(100_000);
+        assertThat(payroll.getOvertimePremium()).isEqualTo(10_000);
+        assertThat(payroll.getNightPremium()).isEqualTo(20_000);
+        // 소정근로 8시간 < 15시간 -> 주휴수당 없음
+        assertThat(payroll.getWeeklyHolidayAllowance()).isZero();
+    }
+
+    @Test
+    void fullWeekEarnsEightHoursOfWeeklyHolidayAllowance() {
+        PayrollAccumulator payroll = rules.newPayroll();
+        for (int day = 0; day < 5; day++) {
+            payroll.add(MONDAY + day, 9 * 60, 17 * 60, WAGE);
+        }
+
+        assertThat(payroll.getOvertimeMinutes()).isZero();
+        assertThat(payroll.getWeeklyHolidayAllowance()).isEqualTo(80_000);
+        assertThat(payroll.getTotalPay()).isEqualTo(400_000 + 80_000);
+    }
+
+    @Test
+    void weeklyHolidayAllowanceIsProportionalAndNeedsFifteenHours() {
+        PayrollAccumulator payroll = rules.newPayroll();
+        // 7시간 x 2일 = 14시간 -> 주휴수당 없음
+        payroll.add(MONDAY, 9 * 60, 16 * 60, WAGE);
+        payroll.add(MONDAY + 1, 9 * 60, 16 * 60, WAGE);
+        assertThat(payroll.getWeeklyHolidayAllowance()).isZero();
+
+        // 세 번째 날을 더하면 21시간 -> 21/40 x 8시간
+        payroll.add(MONDAY + 2, 9 * 60, 16 * 60, WAGE);
+        assertThat(payroll.getWeeklyHolidayAllowance()).isEqualTo(42_000);
+
+        // 다음 주는 별도로 계산
+        payroll.add(MONDAY + 7, 9 * 60, 16 * 60, WAGE);
+        assertThat(payroll.getWeeklyHolidayAllowance()).isEqualTo(42_000);
+    }
+
+    @Test
+    void weeklyOvertimeExcludesHoursAlreadyPaidAsDailyOvertime() {
+        PayrollAccumulator payroll = rules.newPayroll();
+        // 9시간 x 6일 -> 1일 초과 6시간, 소정근로 48시간 중 1주 초과 8시간
+        for (int day = 0; day < 6; day++) {
+            payroll.add(MONDAY + day, 9 * 60, 18 * 60, WAGE);
+        }
+
+        assertThat(payroll.getOvertimeMinutes()).isEqualTo(14 * 60);
+        assertThat(payroll.getOvertimePremium()).isEqualTo(70_000);
+        assertThat(payroll.getWeeklyHolidayAllowance()).isEqualTo(80_000);
+    }
+
+    @Test
+    void shiftsOnTheSameDayShareTheDailyThreshold() {
+        PayrollAccumulator payroll = rules.newPayroll();
+        payroll.add(MONDAY, 8 * 60, 13 * 60, WAGE);
+        payroll.add(MONDAY, 14 * 60, 19 * 60, WAGE);
+
+        assertThat(payroll.getOvertimeMinutes()).isEqualTo(120);
+    }
+}
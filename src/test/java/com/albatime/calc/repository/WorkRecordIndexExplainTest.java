@@ -0,0 +1,117 @@
+package com.albatime.calc.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 로컬 MySQL에서 EXPLAIN으로 사용자별 월별 조회가 (user_id, work_date) 인덱스를 타는지(풀 스캔이 아닌지) 확인한다.
+ */
+@SpringBootTest
+class WorkRecordIndexExplainTest {
+
+    private static final String MARKER = "explain-index-test";
+    private static final long FIRST_USER_ID = -1001L;
+    private static final int USERS = 3;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        // 옵티마이저가 인덱스를 고를 만큼 여러 달, 여러 사용자에 걸친 데이터 준비
+        LocalDate start = LocalDate.of(2020, 1, 1);
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>();
+        for (int day = 0; day < 365 * 4; day++) {
+            for (int shift = 0; shift < USERS; shift++) {
+                rows.add(new Object[] {
+                        FIRST_USER_ID - shift,
+                        Date.valueOf(start.plusDays(day)),
+                        Time.valueOf(LocalTime.of(9 + shift * 4, 0)),
+                        Time.valueOf(LocalTime.of(12 + shift * 4, 30)),
+                        10030,
+                        MARKER,
+                        210,
+                        35105,
+                        Timestamp.valueOf(now),
+                        Timestamp.valueOf(now)
+                });
+            }
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO work_records (user_id, work_date, start_time, end_time, hourly_wage, memo, work_minutes, total_wage, created_at, updated_at, version) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)", rows);
+        jdbcTemplate.execute("ANALYZE TABLE work_records");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM work_records WHERE memo = ?", MARKER);
+    }
+
+    @Test
+    void monthlyListUsesWorkDateRangeScan() {
+        YearMonth month = YearMonth.of(2022, 6);
+
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList(
+                "EXPLAIN SELECT * FROM work_records WHERE user_id = ? AND work_date >= ? AND work_date < ? ORDER BY work_date ASC",
+                FIRST_USER_ID, month.atDay(1), month.plusMonths(1).atDay(1));
+
+        assertNoFullScan(plan);
+    }
+
+    @Test
+    void monthlySummaryIsCoveredByIndex() {
+        YearMonth month = YearMonth.of(2022, 6);
+
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList(
+                "EXPLAIN SELECT work_minutes, total_wage, hourly_wage FROM work_records WHERE user_id = ? AND work_date >= ? AND work_date < ?",
+                FIRST_USER_ID, month.atDay(1), month.plusMonths(1).atDay(1));
+
+        assertNoFullScan(plan);
+        assertThat(plan).allSatisfy(row ->
+                assertThat(String.valueOf(row.get("Extra"))).contains("Using index"));
+    }
+
+    @Test
+    void dailySummaryGroupsInIndexOrder() {
+        YearMonth month = YearMonth.of(2022, 6);
+
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList(
+                "EXPLAIN SELECT work_date, COUNT(*), SUM(work_minutes), SUM(total_wage) FROM work_records "
+                        + "WHERE user_id = ? AND work_date >= ? AND work_date < ? GROUP BY work_date ORDER BY work_date",
+                FIRST_USER_ID, month.atDay(1), month.plusMonths(1).atDay(1));
+
+        // 인덱스 순서대로 그룹핑 - 임시 테이블/정렬 없음
+        assertNoFullScan(plan);
+        assertThat(plan).allSatisfy(row -> assertThat(String.valueOf(row.get("Extra")))
+                .contains("Using index")
+                .doesNotContain("Using temporary")
+                .doesNotContain("Using filesort"));
+    }
+
+    private void assertNoFullScan(List<Map<String, Object>> plan) {
+        assertThat(plan).isNotEmpty();
+        assertThat(plan).allSatisfy(row -> {
+            assertThat(row.get("type")).isNotEqualTo("ALL");
+            assertThat(String.valueOf(row.get("key"))).startsWith("idx_work_records_user");
+        });
+    }
+}
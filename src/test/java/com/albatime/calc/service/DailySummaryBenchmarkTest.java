@@ -0,0 +1,114 @@
+package com.albatime.calc.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import com.albatime.auth.service.CurrentUserService;
+import com.albatime.calc.dto.DailySummaryDto;
+import com.albatime.calc.dto.WorkRecordResponseDto;
+import com.albatime.calc.entity.WorkRecord;
+import com.albatime.calc.repository.WorkRecordRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 달력 한 달: /monthly 전체 목록을 받아 클라이언트에서 날짜별로 더하는 방식 vs /daily 날짜별 GROUP BY 응답의
+ * 결과와 JSON 크기 비교.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@WithMockUser(username = "mingulover")
+class DailySummaryBenchmarkTest extends WorkRecordBenchmarkFixture {
+
+    private static final String MARKER = "daily-summary-benchmark";
+    private static final YearMonth MONTH = YearMonth.of(2085, 3);
+    private static final int SHIFTS_PER_DAY = 4;
+
+    @Autowired
+    private WorkRecordService workRecordService;
+
+    @Autowired
+    private WorkRecordRepository workRecordRepository;
+
+    @Autowired
+    private CurrentUserService currentUserService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    protected String marker() {
+        return MARKER;
+    }
+
+    @BeforeEach
+    void seed() {
+        // 7일마다 하루는 쉬는 날 - 빈 날 채우기 확인용
+        Long userId = currentUserService.getCurrentUserId();
+        List<WorkRecord> workRecords = new ArrayList<>();
+        for (int day = 1; day <= MONTH.lengthOfMonth(); day++) {
+            if (day % 7 == 0) {
+                continue;
+            }
+            for (int shift = 0; shift < SHIFTS_PER_DAY; shift++) {
+                workRecords.add(workRecord(userId, MONTH.atDay(day),
+                        LocalTime.of(6 + shift * 4, 15 * shift), LocalTime.of(9 + shift * 4, 0), 10030 + shift * 500));
+            }
+        }
+        insert(workRecords);
+    }
+
+    @Test
+    void dailyMatchesClientSideSumAndFillsEmptyDays() {
+        List<DailySummaryDto> expected = sumOnClient(monthlyRecords());
+
+        assertThat(workRecordService.getDailySummaries(MONTH.atDay(1), MONTH.atEndOfMonth(), false))
+                .isEqualTo(expected);
+
+        List<DailySummaryDto> filled = workRecordService.getDailySummaries(MONTH.atDay(1), MONTH.atEndOfMonth(), true);
+        assertThat(filled).hasSize(MONTH.lengthOfMonth());
+        assertThat(filled).filteredOn(day -> day.getShiftCount() > 0).isEqualTo(expected);
+        assertThat(filled.get(6)).isEqualTo(DailySummaryDto.empty(MONTH.atDay(7)));
+    }
+
+    @Test
+    void dailyPayloadIsSmallerThanMonthlyList() throws Exception {
+        byte[] monthlyBody = objectMapper.writeValueAsBytes(monthlyRecords());
+        byte[] dailyBody = objectMapper.writeValueAsBytes(
+                workRecordService.getDailySummaries(MONTH.atDay(1), MONTH.atEndOfMonth(), true));
+
+        assertThat(dailyBody.length)
+                .as("/daily?fill=true %,d bytes vs /monthly %,d bytes", dailyBody.length, monthlyBody.length)
+                .isLessThan(monthlyBody.length / 5);
+    }
+
+    private List<WorkRecordResponseDto> monthlyRecords() {
+        return readOnlyTransaction().execute(status ->
+                workRecordRepository.findDtosByYearMonth(currentUserService.getCurrentUserId(), MONTH));
+    }
+
+    // 달력 화면이 지금 하는 계산 - 근무 기록마다 날짜별로 더함
+    private static List<DailySummaryDto> sumOnClient(List<WorkRecordResponseDto> workRecords) {
+        Map<LocalDate, DailySummaryDto> days = new TreeMap<>();
+        for (WorkRecordResponseDto workRecord : workRecords) {
+            DailySummaryDto day = days.computeIfAbsent(workRecord.getWorkDate(), DailySummaryDto::empty);
+            day.setShiftCount(day.getShiftCount() + 1);
+            day.setWorkMinutes(day.getWorkMinutes() + (int) Math.round(workRecord.getWorkHours() * 60));
+            day.setTotalWage(day.getTotalWage() + workRecord.getTotalWage());
+        }
+        return new ArrayList<>(days.values());
+    }
+}
@@ -0,0 +1,79 @@
+package com.albatime.calc.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.albatime.calc.dto.MonthlySummaryDto;
+import com.albatime.calc.dto.WorkRecordResponseDto;
+import com.albatime.calc.repository.WorkRecordRepository;
+
+/**
+ * 한 달 5,000건: JPA 엔티티 조회 / DTO 프로젝션 / 메모리 저장소(열 배열) 월 목록 + 월 통계 결과와 할당량 비교.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "albatime.work-records.hot-store.enabled=true")
+class HotMonthStoreBenchmarkTest extends WorkRecordBenchmarkFixture {
+
+    private static final String MARKER = "hot-store-benchmark";
+    private static final YearMonth MONTH = YearMonth.of(2084, 9);
+    private static final Long USER_ID = -2084L;
+    private static final int RECORD_COUNT = 5_000;
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+
+    @Autowired
+    private WorkRecordRepository workRecordRepository;
+
+    @Autowired
+    private HotMonthStore hotMonthStore;
+
+    @Override
+    protected String marker() {
+        return MARKER;
+    }
+
+    @Test
+    void hotStoreMatchesJpaPathWithLessAllocation() {
+        insertMonth(USER_ID, MONTH, RECORD_COUNT);
+        TransactionTemplate readOnly = readOnlyTransaction();
+
+        Supplier<List<WorkRecordResponseDto>> entityPath = () -> readOnly.execute(status -> {
+            MonthlySummaryDto.of(MONTH.getYear(), MONTH.getMonthValue(), workRecordRepository.summarizeByYearMonth(USER_ID, MONTH));
+            return workRecordRepository.findByYearMonth(USER_ID, MONTH).stream()
+                    .map(WorkRecordResponseDto::from)
+                    .collect(Collectors.toList());
+        });
+        Supplier<List<WorkRecordResponseDto>> projectionPath = () -> readOnly.execute(status -> {
+            MonthlySummaryDto.of(MONTH.getYear(), MONTH.getMonthValue(), workRecordRepository.summarizeByYearMonth(USER_ID, MONTH));
+            return workRecordRepository.findDtosByYearMonth(USER_ID, MONTH);
+        });
+        Supplier<List<WorkRecordResponseDto>> hotStorePath = () -> {
+            hotMonthStore.getSummary(USER_ID, MONTH.getYear(), MONTH.getMonthValue());
+            return hotMonthStore.findMonth(USER_ID, MONTH);
+        };
+
+        assertThat(hotStorePath.get()).hasSize(RECORD_COUNT).isEqualTo(projectionPath.get());
+        assertThat(hotMonthStore.getSummary(USER_ID, MONTH.getYear(), MONTH.getMonthValue()))
+                .isEqualTo(MonthlySummaryDto.of(MONTH.getYear(), MONTH.getMonthValue(),
+                        workRecordRepository.summarizeByYearMonth(USER_ID, MONTH)));
+
+        double entityMegabytes = allocatedMegabytes(WARMUP, ITERATIONS, entityPath);
+        double projectionMegabytes = allocatedMegabytes(WARMUP, ITERATIONS, projectionPath);
+        double hotStoreMegabytes = allocatedMegabytes(WARMUP, ITERATIONS, hotStorePath);
+
+        assertThat(hotStoreMegabytes)
+                .as("%d건 월 목록+통계 할당량(MB) - 메모리 저장소 %.1f / 프로젝션 %.1f / 엔티티 %.1f",
+                        RECORD_COUNT, hotStoreMegabytes, projectionMegabytes, entityMegabytes)
+                .isLessThan(entityMegabytes);
+    }
+}
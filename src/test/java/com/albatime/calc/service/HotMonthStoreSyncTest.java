@@ -0,0 +1,164 @@
+package com.albatime.calc.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.albatime.auth.service.CurrentUserService;
+import com.albatime.calc.dto.MonthlySummaryDto;
+import com.albatime.calc.dto.WorkRecordPatchDto;
+import com.albatime.calc.dto.WorkRecordRequestDto;
+import com.albatime.calc.dto.WorkRecordResponseDto;
+import com.albatime.calc.repository.WorkRecordColumnRepository;
+import com.albatime.calc.repository.WorkRecordRepository;
+
+/**
+ * 생성/수정(달 이동 포함)/부분 수정/삭제 후 메모리 저장소의 달 목록/통계가 DB 조회 결과와 같은지 확인한다.
+ * 적재와 쓰기가 겹치는 경우(이전 스냅샷 트랜잭션 안의 적재, 적재 도중 커밋된 쓰기)에도 호출한 트랜잭션의 스냅샷과 같은 값을 돌려주고,
+ * 다음 조회에서는 변경 번호가 달라 새 값을 다시 적재해야 한다.
+ */
+@SpringBootTest(properties = "albatime.work-records.hot-store.enabled=true")
+@WithMockUser(username = "mingulover")
+class HotMonthStoreSyncTest {
+
+    private static final YearMonth APRIL = YearMonth.of(2086, 4);
+    private static final YearMonth MAY = YearMonth.of(2086, 5);
+
+    @Autowired
+    private WorkRecordService workRecordService;
+
+    @Autowired
+    private HotMonthStore hotMonthStore;
+
+    @Autowired
+    private WorkRecordRepository workRecordRepository;
+
+    @Autowired
+    private CurrentUserService currentUserService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoSpyBean
+    private WorkRecordColumnRepository workRecordColumnRepository;
+
+    @AfterEach
+    void cleanUp() {
+        workRecordService.deleteWorkRecordsByDateRange(APRIL.atDay(1), MAY.atEndOfMonth());
+    }
+
+    @Test
+    void storeFollowsWrites() {
+        // 비어 있는 달을 먼저 적재해 두고 쓰기 후 다시 적재되는지 확인
+        assertStoreMatchesDatabase();
+
+        WorkRecordResponseDto first = workRecordService.createWorkRecord(request(APRIL.atDay(29), 9, 18));
+        WorkRecordResponseDto second = workRecordService.createWorkRecord(request(APRIL.atDay(30), 22, 3));
+        assertStoreMatchesDatabase();
+
+        // 4월 -> 5월로 이동
+        workRecordService.updateWorkRecord(first.getId(), request(MAY.atDay(1), 10, 15));
+        assertStoreMatchesDatabase();
+
+        workRecordService.patchWorkRecord(second.getId(), second.getVersion(),
+                WorkRecordPatchDto.builder().memo("patched").endTime(LocalTime.of(4, 30)).build());
+        assertStoreMatchesDatabase();
+
+        workRecordService.deleteWorkRecord(second.getId(), null);
+        assertStoreMatchesDatabase();
+    }
+
+    @Test
+    void rangeSpanningMonthsIsSlicedByDate() {
+        workRecordService.createWorkRecord(request(APRIL.atDay(10), 9, 18));
+        workRecordService.createWorkRecord(request(APRIL.atDay(30), 9, 18));
+        workRecordService.createWorkRecord(request(MAY.atDay(1), 9, 18));
+        workRecordService.createWorkRecord(request(MAY.atDay(20), 9, 18));
+
+        Long userId = currentUserService.getCurrentUserId();
+        LocalDate startDate = APRIL.atDay(30);
+        LocalDate endDate = MAY.atDay(2);
+        assertThat(hotMonthStore.findRange(userId, startDate, endDate))
+                .contains(workRecordRepository.findDtosByWorkDateRange(userId, startDate, endDate));
+        assertThat(hotMonthStore.findRange(userId, startDate, endDate).orElseThrow()).hasSize(2);
+    }
+
+    @Test
+    void loadInsideOlderSnapshotMatchesThatSnapshot() {
+        Long userId = currentUserService.getCurrentUserId();
+        TransactionTemplate snapshot = new TransactionTemplate(transactionManager);
+        snapshot.setReadOnly(true);
+        snapshot.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        TransactionTemplate write = new TransactionTemplate(transactionManager);
+        write.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        snapshot.executeWithoutResult(status -> {
+            // 스냅샷을 먼저 잡고, 그 뒤에 다른 트랜잭션이 쓰기를 커밋
+            assertThat(workRecordRepository.findDtosByYearMonth(userId, APRIL)).isEmpty();
+            write.executeWithoutResult(inner -> workRecordService.createWorkRecord(request(APRIL.atDay(5), 9, 18)));
+
+            // 이전 스냅샷 안의 적재는 같은 트랜잭션에서 읽으므로 그 스냅샷의 값 (변경 번호도 이전 값)
+            assertThat(hotMonthStore.findMonth(userId, APRIL)).isEmpty();
+        });
+        // 스냅샷이 끝나면 커밋된 쓰기의 변경 번호로 다시 적재
+        assertStoreMatchesDatabase();
+    }
+
+    @Test
+    void writeCommittedDuringLoadIsReloadedOnNextRead() {
+        Long userId = currentUserService.getCurrentUserId();
+        WorkRecordRequestDto created = request(APRIL.atDay(6), 9, 18);
+        AtomicBoolean interleave = new AtomicBoolean(true);
+        // 적재가 DB를 읽은 직후, 결과를 저장하기 전에 다른 스레드의 쓰기가 커밋됨
+        doAnswer(invocation -> {
+            Object loaded = invocation.callRealMethod();
+            if (interleave.compareAndSet(true, false)) {
+                CompletableFuture.runAsync(() -> workRecordService.createWorkRecord(userId, created)).join();
+            }
+            return loaded;
+        }).when(workRecordColumnRepository).findMonth(eq(userId.longValue()), eq(APRIL));
+
+        // 이번 조회는 쓰기 전 스냅샷의 값, 다음 조회는 변경 번호가 달라 다시 적재
+        assertThat(hotMonthStore.findMonth(userId, APRIL)).isEmpty();
+        assertThat(hotMonthStore.findMonth(userId, APRIL)).hasSize(1);
+        assertStoreMatchesDatabase();
+    }
+
+    private void assertStoreMatchesDatabase() {
+        Long userId = currentUserService.getCurrentUserId();
+        for (YearMonth month : new YearMonth[] {APRIL, MAY}) {
+            assertThat(hotMonthStore.findMonth(userId, month))
+                    .isEqualTo(workRecordRepository.findDtosByYearMonth(userId, month));
+            assertThat(hotMonthStore.getSummary(userId, month.getYear(), month.getMonthValue()))
+                    .isEqualTo(MonthlySummaryDto.of(month.getYear(), month.getMonthValue(),
+                            workRecordRepository.summarizeByYearMonth(userId, month)));
+        }
+    }
+
+    private WorkRecordRequestDto request(LocalDate workDate, int startHour, int endHour) {
+        return WorkRecordRequestDto.builder()
+                .workDate(workDate)
+                .startTime(LocalTime.of(startHour, 0))
+                .endTime(LocalTime.of(endHour, 0))
+                .hourlyWage(10030)
+                .memo("hot-store-test")
+                .build();
+    }
+}
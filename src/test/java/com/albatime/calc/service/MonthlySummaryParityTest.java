@@ -0,0 +1,84 @@
+package com.albatime.calc.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.albatime.calc.dto.MonthlySummaryDto;
+import com.albatime.calc.entity.WorkRecord;
+import com.albatime.calc.repository.WorkRecordRepository;
+
+/**
+ * SQL 집계 결과가 엔티티를 읽어 Java로 계산하던 기존 방식과 같은지 확인한다 (건별 원 단위 절사 포함).
+ */
+@SpringBootTest
+class MonthlySummaryParityTest {
+
+    private static final int YEAR = 2088;
+    private static final int MONTH = 7;
+    private static final Long USER_ID = -2088L;
+
+    @Autowired
+    private WorkRecordRepository workRecordRepository;
+
+    private final List<WorkRecord> saved = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        workRecordRepository.deleteAllInBatch(saved);
+    }
+
+    @Test
+    void aggregateQueryMatchesJavaComputation() {
+        Random random = new Random(20240101L);
+        List<WorkRecord> workRecords = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            // 분/초 단위가 제각각인 근무 시간과 나누어 떨어지지 않는 시급으로 절사 경계 확인
+            LocalTime startTime = LocalTime.of(random.nextInt(12), random.nextInt(60), random.nextInt(60));
+            LocalTime endTime = startTime.plusMinutes(1 + random.nextInt(600)).plusSeconds(random.nextInt(60));
+            workRecords.add(WorkRecord.builder()
+                    .userId(USER_ID)
+                    .workDate(LocalDate.of(YEAR, MONTH, 1 + random.nextInt(31)))
+                    .startTime(startTime)
+                    .endTime(endTime)
+                    .hourlyWage(9_000 + random.nextInt(3_000))
+                    .memo("summary-parity-test")
+                    .build());
+        }
+        saved.addAll(workRecordRepository.saveAll(workRecords));
+
+        MonthlySummaryDto actual = summarize(YEAR, MONTH);
+
+        assertThat(actual.getWorkDays()).isEqualTo(workRecords.size());
+        assertThat(actual.getTotalWage()).isEqualTo(workRecords.stream().mapToInt(WorkRecord::calculateTotalWage).sum());
+        assertThat(actual.getAverageHourlyWage())
+                .isEqualTo((int) workRecords.stream().mapToInt(WorkRecord::getHourlyWage).average().orElse(0));
+        assertThat(actual.getTotalWorkHours())
+                .isCloseTo(workRecords.stream().mapToDouble(WorkRecord::calculateWorkHours).sum(), within(1e-9));
+    }
+
+    @Test
+    void emptyMonthIsAllZero() {
+        MonthlySummaryDto actual = summarize(YEAR, 2);
+
+        assertThat(actual.getWorkDays()).isZero();
+        assertThat(actual.getTotalWorkHours()).isZero();
+        assertThat(actual.getTotalWage()).isZero();
+        assertThat(actual.getAverageHourlyWage()).isZero();
+    }
+
+    private MonthlySummaryDto summarize(int year, int month) {
+        return MonthlySummaryDto.of(year, month, workRecordRepository.summarizeByYearMonth(USER_ID, YearMonth.of(year, month)));
+    }
+}
@@ -0,0 +1,118 @@
+package com.albatime.calc.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import com.albatime.auth.service.CurrentUserService;
+import com.albatime.calc.dto.MonthlySummaryDto;
+import com.albatime.calc.dto.WorkRecordPatchDto;
+import com.albatime.calc.dto.WorkRecordRequestDto;
+import com.albatime.calc.dto.WorkRecordResponseDto;
+import com.albatime.calc.repository.WorkRecordRepository;
+
+/**
+ * 생성/수정(달 이동 포함)/부분 수정/삭제/기간 삭제 후 월별 통계 테이블이 원본 집계와 일치하는지 확인한다.
+ */
+@SpringBootTest
+@WithMockUser(username = "mingulover")
+class MonthlySummaryRollupTest {
+
+    private static final YearMonth JANUARY = YearMonth.of(2087, 1);
+    private static final YearMonth FEBRUARY = YearMonth.of(2087, 2);
+
+    @Autowired
+    private WorkRecordService workRecordService;
+
+    @Autowired
+    private WorkRecordRepository workRecordRepository;
+
+    @Autowired
+    private CurrentUserService currentUserService;
+
+    @AfterEach
+    void cleanUp() {
+        // 서비스로 삭제해야 월별 통계도 함께 정리됨
+        workRecordService.deleteWorkRecordsByDateRange(JANUARY.atDay(1), FEBRUARY.atEndOfMonth());
+    }
+
+    @Test
+    void rollupFollowsCreateUpdateAndDelete() {
+        WorkRecordResponseDto first = workRecordService.createWorkRecord(request(JANUARY.atDay(3), 9, 18, 10030));
+        WorkRecordResponseDto second = workRecordService.createWorkRecord(request(JANUARY.atDay(4), 13, 17, 9860));
+        assertRollupMatchesRecords();
+
+        // 1월 -> 2월로 이동
+        workRecordService.updateWorkRecord(second.getId(), request(FEBRUARY.atDay(1), 10, 15, 12000));
+        assertRollupMatchesRecords();
+
+        workRecordService.deleteWorkRecord(first.getId(), null);
+        assertRollupMatchesRecords();
+        assertThat(workRecordService.getMonthlySummary(JANUARY.getYear(), JANUARY.getMonthValue()).getBody().getWorkDays()).isZero();
+    }
+
+    @Test
+    void rollupFollowsPatchAndVersionedDelete() {
+        WorkRecordResponseDto created = workRecordService.createWorkRecord(request(JANUARY.atDay(10), 18, 23, 10030));
+        assertThat(created.getVersion()).isZero();
+
+        // 종료 시간만 바꾸고 2월로 이동 - 근무 시간/총 급여는 SQL에서 다시 계산
+        WorkRecordResponseDto patched = workRecordService.patchWorkRecord(created.getId(), created.getVersion(),
+                WorkRecordPatchDto.builder().workDate(FEBRUARY.atDay(2)).endTime(LocalTime.of(2, 0)).build());
+        assertThat(patched.getVersion()).isEqualTo(1L);
+        assertThat(patched.getWorkHours()).isEqualTo(8.0);
+        assertThat(patched.getTotalWage()).isEqualTo(8 * 10030);
+        assertRollupMatchesRecords();
+
+        // 이전 버전으로는 수정/삭제되지 않고 통계도 그대로
+        assertThatThrownBy(() -> workRecordService.deleteWorkRecord(created.getId(), created.getVersion()))
+                .isInstanceOf(WorkRecordConflictException.class);
+        assertThatThrownBy(() -> workRecordService.patchWorkRecord(created.getId(), created.getVersion(),
+                WorkRecordPatchDto.builder().memo("stale").build()))
+                .isInstanceOf(WorkRecordConflictException.class);
+        assertRollupMatchesRecords();
+
+        workRecordService.deleteWorkRecord(patched.getId(), patched.getVersion());
+        assertThatThrownBy(() -> workRecordService.deleteWorkRecord(patched.getId(), null))
+                .isInstanceOf(WorkRecordNotFoundException.class);
+        assertRollupMatchesRecords();
+    }
+
+    @Test
+    void rollupFollowsRangeDelete() {
+        workRecordService.createWorkRecord(request(JANUARY.atDay(30), 9, 18, 10030));
+        workRecordService.createWorkRecord(request(JANUARY.atDay(31), 9, 13, 10030));
+        workRecordService.createWorkRecord(request(FEBRUARY.atDay(1), 9, 18, 10030));
+
+        assertThat(workRecordService.deleteWorkRecordsByDateRange(JANUARY.atDay(31), FEBRUARY.atDay(1)).getDeletedCount())
+                .isEqualTo(2);
+        assertRollupMatchesRecords();
+        assertThat(workRecordService.getMonthlySummary(JANUARY.getYear(), JANUARY.getMonthValue()).getBody().getWorkDays()).isEqualTo(1);
+    }
+
+    private void assertRollupMatchesRecords() {
+        for (YearMonth month : new YearMonth[] {JANUARY, FEBRUARY}) {
+            MonthlySummaryDto expected = MonthlySummaryDto.of(month.getYear(), month.getMonthValue(),
+                    workRecordRepository.summarizeByYearMonth(currentUserService.getCurrentUserId(), month));
+            assertThat(workRecordService.getMonthlySummary(month.getYear(), month.getMonthValue()).getBody()).isEqualTo(expected);
+        }
+    }
+
+    private WorkRecordRequestDto request(LocalDate workDate, int startHour, int endHour, int hourlyWage) {
+        return WorkRecordRequestDto.builder()
+                .workDate(workDate)
+                .startTime(LocalTime.of(startHour, 0))
+                .endTime(LocalTime.of(endHour, 0))
+                .hourlyWage(hourlyWage)
+                .build();
+    }
+}
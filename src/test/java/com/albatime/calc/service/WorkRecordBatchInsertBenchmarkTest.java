@@ -0,0 +1,80 @@
+package com.albatime.calc.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import com.albatime.calc.dto.WorkRecordRequestDto;
+
+/**
+ * 10,000건 저장: 단건 API 경로(요청마다 트랜잭션 + IDENTITY INSERT)와 일괄 등록(JDBC 배치)이 같은 행을 남기는지 확인.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@WithMockUser(username = "mingulover")
+class WorkRecordBatchInsertBenchmarkTest extends WorkRecordBenchmarkFixture {
+
+    private static final String MARKER = "batch-insert-benchmark";
+    private static final int RECORD_COUNT = 10_000;
+    private static final int REQUEST_SIZE = 1_000;
+
+    @Autowired
+    private WorkRecordService workRecordService;
+
+    @Override
+    protected String marker() {
+        return MARKER;
+    }
+
+    @Test
+    void batchInsertStoresSameRowsAsSingleRecordPath() {
+        List<WorkRecordRequestDto> requests = createRequests();
+
+        for (WorkRecordRequestDto request : requests) {
+            workRecordService.createWorkRecord(request);
+        }
+        List<Map<String, Object>> single = savedRows();
+
+        deleteMarkedRecords();
+
+        for (int from = 0; from < requests.size(); from += REQUEST_SIZE) {
+            workRecordService.createWorkRecords(requests.subList(from, from + REQUEST_SIZE));
+        }
+        List<Map<String, Object>> batch = savedRows();
+
+        assertThat(single).hasSize(RECORD_COUNT);
+        assertThat(batch).isEqualTo(single);
+    }
+
+    // ID/생성 시간을 뺀 저장 값 (파생 컬럼 포함)
+    private List<Map<String, Object>> savedRows() {
+        return jdbcTemplate.queryForList(
+                "SELECT user_id, work_date, start_time, end_time, hourly_wage, work_minutes, total_wage FROM work_records"
+                        + " WHERE memo = ? ORDER BY work_date, start_time, id", MARKER);
+    }
+
+    private List<WorkRecordRequestDto> createRequests() {
+        List<WorkRecordRequestDto> requests = new ArrayList<>(RECORD_COUNT);
+        LocalDate startDate = LocalDate.of(2080, 1, 1);
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            requests.add(WorkRecordRequestDto.builder()
+                    .workDate(startDate.plusDays(i / 10))
+                    .startTime(LocalTime.of(9, 0))
+                    .endTime(LocalTime.of(18, 0))
+                    .hourlyWage(10030)
+                    .memo(MARKER)
+                    .build());
+        }
+        return requests;
+    }
+}
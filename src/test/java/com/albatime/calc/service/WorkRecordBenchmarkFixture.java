@@ -0,0 +1,97 @@
+package com.albatime.calc.service;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.albatime.calc.entity.WorkRecord;
+import com.albatime.calc.repository.WorkRecordBatchRepository;
+
+/**
+ * 벤치마크 테스트 공통 준비/정리 - 근무 기록 memo에 테스트별 표식을 남겨 JDBC 배치로 넣고, 테스트가 끝나면 표식으로 한 번에 삭제.
+ * 공유 CI에서 흔들리는 실행 시간 비교는 하지 않음 - 결과 동일성, 응답 크기, 스레드 할당량처럼 재현되는 값만 검증.
+ */
+abstract class WorkRecordBenchmarkFixture {
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private WorkRecordBatchRepository workRecordBatchRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // 테스트 클래스마다 다른 표식 - 다른 테스트/실데이터와 섞이지 않음
+    protected abstract String marker();
+
+    @AfterEach
+    void deleteMarkedRecords() {
+        jdbcTemplate.update("DELETE FROM work_records WHERE memo = ?", marker());
+    }
+
+    protected int countMarkedRecords() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM work_records WHERE memo = ?", Integer.class, marker());
+    }
+
+    // 한 달에 count건, 1일부터 말일까지 돌아가며 09:00~18:00
+    protected void insertMonth(Long userId, YearMonth month, int count) {
+        List<WorkRecord> workRecords = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            workRecords.add(workRecord(userId, month.atDay(1 + i % month.lengthOfMonth()),
+                    LocalTime.of(9, 0), LocalTime.of(18, 0), 10030));
+        }
+        workRecordBatchRepository.insertAll(workRecords);
+    }
+
+    protected void insert(List<WorkRecord> workRecords) {
+        workRecordBatchRepository.insertAll(workRecords);
+    }
+
+    protected WorkRecord workRecord(Long userId, LocalDate workDate, LocalTime startTime, LocalTime endTime, int hourlyWage) {
+        LocalDateTime now = LocalDateTime.now();
+        WorkRecord workRecord = WorkRecord.builder()
+                .userId(userId)
+                .workDate(workDate)
+                .startTime(startTime)
+                .endTime(endTime)
+                .hourlyWage(hourlyWage)
+                .memo(marker())
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        workRecord.applyDerivedColumns();
+        return workRecord;
+    }
+
+    protected TransactionTemplate readOnlyTransaction() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return readOnly;
+    }
+
+    // 예열 후 반복 실행한 1회 평균 할당량(MB) - 측정 스레드 기준(com.sun.management.ThreadMXBean)이라 다른 테스트/장비 부하에 흔들리지 않음
+    protected static double allocatedMegabytes(int warmup, int iterations, Supplier<?> task) {
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < warmup; i++) {
+            task.get();
+        }
+        long allocatedBefore = threadBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            task.get();
+        }
+        long allocated = threadBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        return allocated / 1024.0 / 1024.0 / iterations;
+    }
+}
@@ -0,0 +1,137 @@
+package com.albatime.calc.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.Writer;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import com.albatime.auth.service.CurrentUserService;
+import com.albatime.calc.dto.ExportFormat;
+
+/**
+ * 100만 건 내보내기가 작은 힙(-Xmx, heavyTest 태스크 참고)에서도 끝까지 완료되는지 확인한다.
+ */
+@Tag("heavy")
+@SpringBootTest
+@WithMockUser(username = "mingulover")
+class WorkRecordExportHeavyTest {
+
+    private static final String MARKER = "export-heavy-test";
+    private static final int ROW_COUNT = 1_000_000;
+    private static final int ROWS_PER_DAY = 250;
+    private static final LocalDate START_DATE = LocalDate.of(2090, 1, 1);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private WorkRecordExportService workRecordExportService;
+
+    @Autowired
+    private CurrentUserService currentUserService;
+
+    @BeforeEach
+    void seed() {
+        Long userId = currentUserService.getCurrentUserId();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> chunk = new ArrayList<>(10_000);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            chunk.add(new Object[] {
+                    userId,
+                    Date.valueOf(START_DATE.plusDays(i / ROWS_PER_DAY)),
+                    Time.valueOf(LocalTime.of(9, 0)),
+                    Time.valueOf(LocalTime.of(18, 0)),
+                    10030,
+                    MARKER,
+                    540,
+                    90270,
+                    now,
+                    now
+            });
+            if (chunk.size() == 10_000) {
+                insert(chunk);
+                chunk.clear();
+            }
+        }
+        insert(chunk);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM work_records WHERE memo = ?", MARKER);
+    }
+
+    @Test
+    void exportsMillionRowsAsNdjsonWithFlatHeap() throws Exception {
+        CountingWriter writer = new CountingWriter();
+        LocalDate endDate = START_DATE.plusDays(ROW_COUNT / ROWS_PER_DAY);
+
+        long exported = workRecordExportService.exportWorkRecords(START_DATE, endDate, ExportFormat.NDJSON, writer);
+
+        assertThat(exported).isEqualTo(ROW_COUNT);
+        assertThat(writer.lines).isEqualTo(ROW_COUNT);
+    }
+
+    @Test
+    void exportsMillionRowsAsCsvWithFlatHeap() throws Exception {
+        CountingWriter writer = new CountingWriter();
+        LocalDate endDate = START_DATE.plusDays(ROW_COUNT / ROWS_PER_DAY);
+
+        long exported = workRecordExportService.exportWorkRecords(START_DATE, endDate, ExportFormat.CSV, writer);
+
+        assertThat(exported).isEqualTo(ROW_COUNT);
+        assertThat(writer.lines).isEqualTo(ROW_COUNT + 1);  // 헤더 포함
+    }
+
+    private void insert(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO work_records (user_id, work_date, start_time, end_time, hourly_wage, memo, work_minutes, total_wage, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    // 출력은 버리고 줄 수만 센다
+    private static class CountingWriter extends Writer {
+
+        private long lines;
+
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                if (buffer[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+
+        @Override
+        public void write(int c) {
+            if (c == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
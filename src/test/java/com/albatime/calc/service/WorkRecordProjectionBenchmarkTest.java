@@ -0,0 +1,62 @@
+package com.albatime.calc.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.albatime.calc.dto.WorkRecordResponseDto;
+import com.albatime.calc.repository.WorkRecordRepository;
+
+/**
+ * 10,000건 월 목록: 엔티티 로딩 후 DTO 변환 vs JPQL DTO 프로젝션의 결과/할당량 비교.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class WorkRecordProjectionBenchmarkTest extends WorkRecordBenchmarkFixture {
+
+    private static final String MARKER = "projection-benchmark";
+    private static final YearMonth MONTH = YearMonth.of(2081, 3);
+    private static final Long USER_ID = -2081L;
+    private static final int RECORD_COUNT = 10_000;
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+
+    @Autowired
+    private WorkRecordRepository workRecordRepository;
+
+    @Override
+    protected String marker() {
+        return MARKER;
+    }
+
+    @Test
+    void projectionAllocatesLessThanEntityMapping() {
+        insertMonth(USER_ID, MONTH, RECORD_COUNT);
+        TransactionTemplate readOnly = readOnlyTransaction();
+
+        Supplier<List<WorkRecordResponseDto>> entityPath = () -> readOnly.execute(status ->
+                workRecordRepository.findByYearMonth(USER_ID, MONTH).stream()
+                        .map(WorkRecordResponseDto::from)
+                        .collect(Collectors.toList()));
+        Supplier<List<WorkRecordResponseDto>> projectionPath = () -> readOnly.execute(status ->
+                workRecordRepository.findDtosByYearMonth(USER_ID, MONTH));
+
+        assertThat(projectionPath.get()).hasSize(RECORD_COUNT).containsExactlyInAnyOrderElementsOf(entityPath.get());
+
+        double entityMegabytes = allocatedMegabytes(WARMUP, ITERATIONS, entityPath);
+        double projectionMegabytes = allocatedMegabytes(WARMUP, ITERATIONS, projectionPath);
+
+        assertThat(projectionMegabytes)
+                .as("%d건 월 목록 할당량(MB) - 프로젝션 %.1f vs 엔티티 %.1f", RECORD_COUNT, projectionMegabytes, entityMegabytes)
+                .isLessThan(entityMegabytes);
+    }
+}
@@ -0,0 +1,83 @@
+package com.albatime.calc.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import com.albatime.calc.dto.PeriodSummaryDto;
+import com.albatime.calc.dto.SummaryGranularity;
+import com.albatime.calc.dto.SummaryReportDto;
+import com.albatime.calc.dto.WorkRecordRequestDto;
+
+/**
+ * 기간 통계의 각 구간이 조회 구간(from 1일 ~ to 말일) 안으로 잘리는지 확인한다.
+ * 2089-11-01은 화요일, 2089-12-31은 토요일이라 첫 주/마지막 주가 조회 구간 밖으로 걸친다.
+ */
+@SpringBootTest
+@WithMockUser(username = "mingulover")
+class WorkRecordSummaryReportTest {
+
+    private static final YearMonth FROM = YearMonth.of(2089, 11);
+    private static final YearMonth TO = YearMonth.of(2089, 12);
+
+    @Autowired
+    private WorkRecordService workRecordService;
+
+    @AfterEach
+    void cleanUp() {
+        workRecordService.deleteWorkRecordsByDateRange(FROM.atDay(1), TO.atEndOfMonth());
+    }
+
+    @Test
+    void weekBucketsAreClampedToRequestedRange() {
+        assertThat(FROM.atDay(1).getDayOfWeek()).isNotEqualTo(DayOfWeek.MONDAY);
+        assertThat(TO.atEndOfMonth().getDayOfWeek()).isNotEqualTo(DayOfWeek.SUNDAY);
+        workRecordService.createWorkRecord(request(FROM.atDay(1)));
+        workRecordService.createWorkRecord(request(FROM.atDay(15)));
+        workRecordService.createWorkRecord(request(TO.atEndOfMonth()));
+
+        SummaryReportDto report = workRecordService.getSummaryReport(FROM, TO, SummaryGranularity.WEEK);
+
+        List<PeriodSummaryDto> periods = report.getPeriods();
+        assertThat(periods).hasSize(3);
+        assertThat(periods.get(0).getPeriodStart()).isEqualTo(FROM.atDay(1));
+        assertThat(periods.get(0).getPeriodEnd()).isEqualTo(FROM.atDay(1).with(DayOfWeek.SUNDAY));
+        assertThat(periods.get(2).getPeriodStart()).isEqualTo(TO.atEndOfMonth().with(DayOfWeek.MONDAY));
+        assertThat(periods.get(2).getPeriodEnd()).isEqualTo(TO.atEndOfMonth());
+        assertThat(periods).allSatisfy(period -> {
+            assertThat(period.getPeriodStart()).isAfterOrEqualTo(FROM.atDay(1));
+            assertThat(period.getPeriodEnd()).isBeforeOrEqualTo(TO.atEndOfMonth());
+        });
+        assertThat(report.getTotal().getWorkDays()).isEqualTo(3);
+    }
+
+    @Test
+    void monthBucketsCoverWholeMonths() {
+        workRecordService.createWorkRecord(request(FROM.atDay(1)));
+        workRecordService.createWorkRecord(request(TO.atEndOfMonth()));
+
+        List<PeriodSummaryDto> periods = workRecordService.getSummaryReport(FROM, TO, SummaryGranularity.MONTH).getPeriods();
+
+        assertThat(periods).extracting(PeriodSummaryDto::getPeriodStart).containsExactly(FROM.atDay(1), TO.atDay(1));
+        assertThat(periods).extracting(PeriodSummaryDto::getPeriodEnd).containsExactly(FROM.atEndOfMonth(), TO.atEndOfMonth());
+    }
+
+    private WorkRecordRequestDto request(LocalDate workDate) {
+        return WorkRecordRequestDto.builder()
+                .workDate(workDate)
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(18, 0))
+                .hourlyWage(10030)
+                .build();
+    }
+}
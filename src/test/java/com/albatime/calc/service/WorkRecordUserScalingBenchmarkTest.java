@@ -0,0 +1,86 @@
+package com.albatime.calc.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.YearMonth;
+import java.util.Map;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.albatime.calc.repository.WorkRecordRepository;
+
+/**
+ * 사용자 수를 1 → 10 → 100명으로 늘려도 한 사용자의 월 목록/월 통계가 (user_id, work_date) 인덱스로 자기 기록만 읽는지 확인한다.
+ * 조회 시간 대신 실행 계획의 사용 인덱스와 예상 행 수를 본다 - 전체 행 수가 아니라 사용자당 행 수에 비례해야 한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class WorkRecordUserScalingBenchmarkTest extends WorkRecordBenchmarkFixture {
+
+    private static final String MARKER = "user-scaling-benchmark";
+    private static final long FIRST_USER_ID = -300_000L;
+    private static final int[] USER_COUNTS = {1, 10, 100};
+    private static final YearMonth FIRST_MONTH = YearMonth.of(2083, 1);
+    private static final int MONTHS = 12;
+    private static final int RECORDS_PER_MONTH = 60;
+    private static final YearMonth TARGET_MONTH = FIRST_MONTH.plusMonths(6);
+
+    // 리포지토리 월 목록/월 통계와 같은 조건
+    private static final String MONTH_LIST_SQL =
+            "EXPLAIN SELECT * FROM work_records WHERE user_id = ? AND work_date >= ? AND work_date < ?";
+    private static final String MONTH_SUMMARY_SQL =
+            "EXPLAIN SELECT COUNT(*), SUM(work_minutes), SUM(total_wage) FROM work_records"
+                    + " WHERE user_id = ? AND work_date >= ? AND work_date < ?";
+
+    @Autowired
+    private WorkRecordRepository workRecordRepository;
+
+    @Override
+    protected String marker() {
+        return MARKER;
+    }
+
+    @Test
+    void perUserQueriesReadOnlyTheirOwnRowsAsUsersGrow() {
+        TransactionTemplate readOnly = readOnlyTransaction();
+
+        int seededUsers = 0;
+        for (int userCount : USER_COUNTS) {
+            for (; seededUsers < userCount; seededUsers++) {
+                insertRecords(FIRST_USER_ID - seededUsers);
+            }
+            jdbcTemplate.execute("ANALYZE TABLE work_records");
+
+            long lastUserId = FIRST_USER_ID - (userCount - 1);
+            assertUsesUserIndex(MONTH_LIST_SQL, lastUserId, userCount);
+            assertUsesUserIndex(MONTH_SUMMARY_SQL, lastUserId, userCount);
+
+            readOnly.executeWithoutResult(status -> {
+                assertThat(workRecordRepository.findDtosByYearMonth(lastUserId, TARGET_MONTH)).hasSize(RECORDS_PER_MONTH);
+                assertThat(workRecordRepository.summarizeByYearMonth(lastUserId, TARGET_MONTH).getRecordCount())
+                        .isEqualTo(RECORDS_PER_MONTH);
+            });
+        }
+    }
+
+    // 사용자 인덱스 범위 스캔이고, 예상 행 수가 전체(사용자 수 × 연간 건수)가 아니라 한 달 건수 수준이어야 함
+    private void assertUsesUserIndex(String sql, long userId, int userCount) {
+        Map<String, Object> plan = jdbcTemplate.queryForMap(sql,
+                userId, TARGET_MONTH.atDay(1), TARGET_MONTH.plusMonths(1).atDay(1));
+        String described = String.format("사용자 %d명 - %s", userCount, plan);
+
+        assertThat((String) plan.get("type")).as(described).isNotEqualTo("ALL");
+        assertThat((String) plan.get("key")).as(described).startsWith("idx_work_records_user");
+        assertThat(((Number) plan.get("rows")).longValue()).as(described).isLessThanOrEqualTo(RECORDS_PER_MONTH * 2L);
+    }
+
+    private void insertRecords(long userId) {
+        for (int month = 0; month < MONTHS; month++) {
+            insertMonth(userId, FIRST_MONTH.plusMonths(month), RECORDS_PER_MONTH);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.albatime.calc.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import com.albatime.calc.dto.WorkRecordRequestDto;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 동시 단건 등록 8,000건: 요청마다 트랜잭션(동기)과 쓰기 지연 group commit이 같은 건수를 저장하고, 쓰기 지연은 실제로 여러 건을 한 번에 커밋하는지 확인.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "albatime.work-records.write-behind.enabled=true")
+@WithMockUser(username = "mingulover")
+class WorkRecordWriteBehindBenchmarkTest extends WorkRecordBenchmarkFixture {
+
+    private static final String MARKER = "write-behind-benchmark";
+    private static final int CLIENTS = 32;
+    private static final int REQUESTS_PER_CLIENT = 250;
+    private static final int RECORD_COUNT = CLIENTS * REQUESTS_PER_CLIENT;
+
+    @Autowired
+    private WorkRecordService workRecordService;
+
+    @Autowired
+    private WorkRecordWriteBehindService workRecordWriteBehindService;
+
+    @Autowired
+    private MonthlySummaryRollupService monthlySummaryRollupService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    protected String marker() {
+        return MARKER;
+    }
+
+    // 표식 행을 지운 뒤 통계를 원본 기준으로 다시 맞춤 - 부모 @AfterEach보다 먼저 실행되므로 여기서 먼저 삭제
+    @AfterEach
+    void rebuildRollup() {
+        deleteMarkedRecords();
+        monthlySummaryRollupService.rebuild();
+    }
+
+    @Test
+    void groupCommitStoresEveryRequestInFewerCommits() throws Exception {
+        runClients(workRecordService::createWorkRecord);
+        assertThat(countMarkedRecords()).isEqualTo(RECORD_COUNT);
+
+        deleteMarkedRecords();
+
+        DistributionSummary batchSizes = meterRegistry.get("albatime.work-records.write-behind.batch.size").summary();
+        long commitsBefore = batchSizes.count();
+        double recordsBefore = batchSizes.totalAmount();
+
+        // 응답(join) 시점에 이미 커밋되어 있어야 함
+        runClients(request -> workRecordWriteBehindService.submit(request).join());
+        assertThat(countMarkedRecords()).isEqualTo(RECORD_COUNT);
+
+        long commits = batchSizes.count() - commitsBefore;
+        assertThat(batchSizes.totalAmount() - recordsBefore).isEqualTo(RECORD_COUNT);
+        assertThat(commits)
+                .as("동시 %d명 x %d건 - 배치 커밋 %d회", CLIENTS, REQUESTS_PER_CLIENT, commits)
+                .isLessThan(RECORD_COUNT);
+    }
+
+    @Test
+    void invalidRequestFailsWithoutEnteringQueue() {
+        WorkRecordRequestDto invalid = request(LocalDate.of(2081, 1, 1));
+        invalid.setEndTime(invalid.getStartTime());
+
+        assertThatThrownBy(() -> workRecordWriteBehindService.submit(invalid))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(countMarkedRecords()).isZero();
+    }
+
+    private void runClients(Consumer<WorkRecordRequestDto> create) throws Exception {
+        // 클라이언트 스레드도 테스트 사용자로 등록
+        ExecutorService clients = new DelegatingSecurityContextExecutorService(Executors.newFixedThreadPool(CLIENTS));
+        try {
+            List<Future<?>> futures = new ArrayList<>(CLIENTS);
+            for (int client = 0; client < CLIENTS; client++) {
+                LocalDate workDate = LocalDate.of(2081, 1, 1).plusDays(client);
+                futures.add(clients.submit(() -> {
+                    for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                        create.accept(request(workDate));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private WorkRecordRequestDto request(LocalDate workDate) {
+        return WorkRecordRequestDto.builder()
+                .workDate(workDate)
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(18, 0))
+                .hourlyWage(10030)
+                .memo(MARKER)
+                .build();
+    }
+}
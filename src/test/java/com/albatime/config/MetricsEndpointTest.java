@@ -0,0 +1,63 @@
+package com.albatime.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.albatime.calc.service.WorkRecordService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Actuator 메트릭은 관리자만 조회하고, 세션별 Hibernate 통계가 Boot 레지스트리에 쌓이는지 확인한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class MetricsEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private WorkRecordService workRecordService;
+
+    @Test
+    void healthIsPublic() throws Exception {
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+    }
+
+    @Test
+    void metricsNeedAuthentication() throws Exception {
+        mockMvc.perform(get("/actuator/metrics")).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser(username = "mingulover")
+    void metricsAreForbiddenToUsers() throws Exception {
+        mockMvc.perform(get("/actuator/metrics")).andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(username = "mingulover", roles = "ADMIN")
+    void sessionMetricsAreRecordedInBootRegistry() throws Exception {
+        long before = meterRegistry.get("albatime.hibernate.session.statements").summary().count();
+
+        YearMonth month = YearMonth.of(2089, 9);
+        workRecordService.getWorkRecordsByDateRange(month.atDay(1), month.atEndOfMonth());
+
+        assertThat(meterRegistry.get("albatime.hibernate.session.statements").summary().count()).isGreaterThan(before);
+        mockMvc.perform(get("/actuator/metrics/albatime.hibernate.session.statements")).andExpect(status().isOk());
+    }
+}
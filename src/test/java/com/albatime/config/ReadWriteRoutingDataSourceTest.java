@@ -0,0 +1,142 @@
+package com.albatime.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 내장 H2 두 개(primary/replica)로 읽기/쓰기 분기, 쓰기 후 읽기 고정, replica 장애 시 primary 전환 확인.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final Duration READ_YOUR_WRITES_WINDOW = Duration.ofMillis(300);
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private final AtomicBoolean replicaUp = new AtomicBoolean(true);
+
+    private ReadWriteRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        primary = createDatabase("primary");
+        replica = createDatabase("replica");
+        DelegatingDataSource switchableReplica = new DelegatingDataSource(replica) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                if (!replicaUp.get()) {
+                    throw new SQLException("replica down");
+                }
+                return super.getConnection();
+            }
+        };
+
+        routingDataSource = new ReadWriteRoutingDataSource(primary, switchableReplica, READ_YOUR_WRITES_WINDOW, Duration.ofMinutes(1));
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplicaAndWritesToPrimary() {
+        loginAs("alice");
+
+        assertThat(readOnly.execute(status -> currentDatabase())).isEqualTo("replica");
+        assertThat(readWrite.execute(status -> currentDatabase())).isEqualTo("primary");
+    }
+
+    @Test
+    void readsStayOnPrimaryForTheWriterUntilTheWindowPasses() throws InterruptedException {
+        loginAs("alice");
+        readWrite.executeWithoutResult(status ->
+                jdbcTemplate.update("UPDATE db_role SET touched = touched + 1"));
+
+        assertThat(readOnly.execute(status -> currentDatabase())).isEqualTo("primary");
+
+        loginAs("bob");
+        assertThat(readOnly.execute(status -> currentDatabase())).isEqualTo("replica");
+
+        Thread.sleep(READ_YOUR_WRITES_WINDOW.toMillis() + 200);
+        loginAs("alice");
+        assertThat(readOnly.execute(status -> currentDatabase())).isEqualTo("replica");
+    }
+
+    @Test
+    void writesWithoutAuthenticationPinOnlyExplicitlyMarkedUsers() {
+        // 작업 스레드처럼 인증 정보 없이 커밋 - 익명 읽기가 primary에 고정되면 안 됨
+        readWrite.executeWithoutResult(status ->
+                jdbcTemplate.update("UPDATE db_role SET touched = touched + 1"));
+        assertThat(readOnly.execute(status -> currentDatabase())).isEqualTo("replica");
+
+        routingDataSource.markRecentWriter("alice");
+        loginAs("alice");
+        assertThat(readOnly.execute(status -> currentDatabase())).isEqualTo("primary");
+        loginAs("bob");
+        assertThat(readOnly.execute(status -> currentDatabase())).isEqualTo("replica");
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicaIsDown() {
+        loginAs("alice");
+        replicaUp.set(false);
+
+        assertThat(readOnly.execute(status -> currentDatabase())).isEqualTo("primary");
+        assertThat(routingDataSource.isReplicaDown()).isTrue();
+
+        // 재시도 간격 동안은 replica에 다시 연결하지 않음
+        replicaUp.set(true);
+        assertThat(readOnly.execute(status -> currentDatabase())).isEqualTo("primary");
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT name FROM db_role", String.class);
+    }
+
+    private static EmbeddedDatabase createDatabase(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE db_role (name VARCHAR(20), touched INT)");
+        jdbcTemplate.update("INSERT INTO db_role (name, touched) VALUES (?, 0)", name);
+        return database;
+    }
+
+    private static void loginAs(String username) {
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                username, null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+    }
+}
@@ -0,0 +1,137 @@
+package com.albatime.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 앱과 같은 연결 구성(DataSourceRoutingConfig의 LazyConnectionDataSourceProxy + JpaTransactionManager)으로 분기 확인.
+ * JPA는 트랜잭션 시작 시 연결을 먼저 잡으므로 readOnly 표시가 첫 쿼리 전에 보이는지, 쓰기 후 읽기 고정이 커밋 시점 기준인지 본다.
+ */
+class ReadWriteRoutingJpaTest {
+
+    private static final Duration READ_YOUR_WRITES_WINDOW = Duration.ofMillis(300);
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private LocalContainerEntityManagerFactoryBean entityManagerFactory;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        primary = createDatabase("primary");
+        replica = createDatabase("replica");
+        DataSource dataSource = new DataSourceRoutingConfig()
+                .dataSource(primary, replica, READ_YOUR_WRITES_WINDOW, Duration.ofMinutes(1));
+
+        entityManagerFactory = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactory.setDataSource(dataSource);
+        entityManagerFactory.setPackagesToScan(ReadWriteRoutingJpaTest.class.getPackageName() + ".none");
+        entityManagerFactory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactory.setJpaPropertyMap(Map.of(
+                "hibernate.dialect", "org.hibernate.dialect.H2Dialect",
+                "hibernate.boot.allow_jdbc_metadata_access", "false"));
+        entityManagerFactory.afterPropertiesSet();
+
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory.getObject());
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory.getObject());
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        entityManagerFactory.destroy();
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    void readOnlyJpaTransactionsGoToReplica() {
+        loginAs("alice");
+
+        assertThat(readOnly.execute(status -> currentDatabase())).isEqualTo("replica");
+        assertThat(readWrite.execute(status -> currentDatabase())).isEqualTo("primary");
+    }
+
+    @Test
+    void readYourWritesWindowStartsAtCommit() {
+        loginAs("alice");
+        // 첫 쓰기 후 고정 시간보다 오래 열려 있던 트랜잭션 - 커밋 직후 읽기는 primary여야 함
+        readWrite.executeWithoutResult(status -> {
+            touch();
+            sleep(READ_YOUR_WRITES_WINDOW.toMillis() + 200);
+        });
+
+        assertThat(readOnly.execute(status -> currentDatabase())).isEqualTo("primary");
+    }
+
+    @Test
+    void rolledBackWriteDoesNotPinReads() {
+        loginAs("alice");
+        readWrite.executeWithoutResult(status -> {
+            touch();
+            status.setRollbackOnly();
+        });
+
+        assertThat(readOnly.execute(status -> currentDatabase())).isEqualTo("replica");
+    }
+
+    private String currentDatabase() {
+        return (String) entityManager.createNativeQuery("SELECT name FROM db_role").getSingleResult();
+    }
+
+    private void touch() {
+        entityManager.createNativeQuery("UPDATE db_role SET touched = touched + 1").executeUpdate();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static EmbeddedDatabase createDatabase(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE db_role (name VARCHAR(20), touched INT)");
+        jdbcTemplate.update("INSERT INTO db_role (name, touched) VALUES (?, 0)", name);
+        return database;
+    }
+
+    private static void loginAs(String username) {
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                username, null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+    }
+}